@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.config.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.origin.Origin;
+import org.springframework.boot.origin.OriginLookup;
+import org.springframework.boot.origin.PropertySourceOrigin;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+
+/**
+ * Immutable {@link EnumerablePropertySource} merging the property sources returned by
+ * config server into a single hash-indexed source, so that property lookups no longer
+ * walk one source per profile, label and backend.
+ * <p>
+ * The merged sources are retained, so that the origin of each property, and the source
+ * it was served from, can still be looked up.
+ * <p>
+ * Before a refresh loads the config server property sources again, the compacted source
+ * is expanded back into the merged sources, see {@link CompactingContextRefresher}, so
+ * that properties deleted on the config server are reported as changed.
+ */
+public class CompactedConfigServerPropertySource extends EnumerablePropertySource<Map<String, Object>>
+		implements OriginLookup<String> {
+
+	/**
+	 * Name of the compacted property source.
+	 */
+	public static final String NAME = "configserver:compacted";
+
+	private static final String CONFIG_SERVER_PREFIX = "configserver:";
+
+	private final List<EnumerablePropertySource<?>> propertySources;
+
+	private final Map<String, EnumerablePropertySource<?>> owners;
+
+	private final String[] propertyNames;
+
+	CompactedConfigServerPropertySource(List<EnumerablePropertySource<?>> propertySources) {
+		super(NAME, new HashMap<>());
+		this.propertySources = List.copyOf(propertySources);
+		this.owners = new HashMap<>();
+		// Sources are in precedence order, the first one to define a property wins
+		for (var propertySource : this.propertySources) {
+			for (var name : propertySource.getPropertyNames()) {
+				if (!this.owners.containsKey(name)) {
+					this.owners.put(name, propertySource);
+					this.source.put(name, propertySource.getProperty(name));
+				}
+			}
+		}
+		this.propertyNames = this.owners.keySet().toArray(new String[0]);
+	}
+
+	@Override
+	public Object getProperty(String name) {
+		return this.source.get(name);
+	}
+
+	@Override
+	public boolean containsProperty(String name) {
+		return this.source.containsKey(name);
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return this.propertyNames.clone();
+	}
+
+	@Override
+	public Origin getOrigin(String key) {
+		var owner = this.owners.get(key);
+		if (owner == null) {
+			return null;
+		}
+		if (owner instanceof OriginLookup<?>) {
+			@SuppressWarnings("unchecked")
+			var origin = ((OriginLookup<String>) owner).getOrigin(key);
+			if (origin != null) {
+				return origin;
+			}
+		}
+		return new PropertySourceOrigin(owner, key);
+	}
+
+	@Override
+	public boolean isImmutable() {
+		return true;
+	}
+
+	/**
+	 * Returns the config server property source the given property was served from.
+	 * @param name the property name
+	 * @return the property source, or {@code null} if the property is not present
+	 */
+	public PropertySource<?> getPropertySource(String name) {
+		return this.owners.get(name);
+	}
+
+	/**
+	 * Returns the merged config server property sources, in precedence order.
+	 * @return the merged property sources
+	 */
+	public List<EnumerablePropertySource<?>> getPropertySources() {
+		return this.propertySources;
+	}
+
+	/**
+	 * Replaces the first run of adjacent config server property sources with a single
+	 * {@link CompactedConfigServerPropertySource}. A previously compacted source still
+	 * present is replaced if config server property sources are present again, for
+	 * instance after a refresh, and kept otherwise.
+	 * @param propertySources the property sources to compact
+	 */
+	static void compact(MutablePropertySources propertySources) {
+		CompactedConfigServerPropertySource previous = null;
+		var run = new ArrayList<EnumerablePropertySource<?>>();
+		for (var propertySource : propertySources) {
+			if (propertySource instanceof CompactedConfigServerPropertySource compacted) {
+				previous = compacted;
+				continue;
+			}
+			if (propertySource.getName().startsWith(CONFIG_SERVER_PREFIX)
+					&& propertySource instanceof EnumerablePropertySource<?> enumerablePropertySource) {
+				run.add(enumerablePropertySource);
+			}
+			else if (!run.isEmpty()) {
+				break;
+			}
+		}
+		if (run.isEmpty()) {
+			return;
+		}
+
+		if (previous != null) {
+			propertySources.remove(NAME);
+		}
+		if (run.size() > 1) {
+			propertySources.replace(run.get(0).getName(), new CompactedConfigServerPropertySource(run));
+			run.subList(1, run.size()).forEach(propertySource -> propertySources.remove(propertySource.getName()));
+		}
+	}
+
+	/**
+	 * Replaces the {@link CompactedConfigServerPropertySource}, if any, with the property
+	 * sources it merged, in precedence order.
+	 * @param propertySources the property sources to expand
+	 */
+	static void expand(MutablePropertySources propertySources) {
+		if (!(propertySources.get(NAME) instanceof CompactedConfigServerPropertySource compacted)) {
+			return;
+		}
+		var merged = compacted.getPropertySources();
+		propertySources.replace(NAME, merged.get(0));
+		for (int i = 1; i < merged.size(); i++) {
+			propertySources.addAfter(merged.get(i - 1).getName(), merged.get(i));
+		}
+	}
+
+	/**
+	 * Returns an unmodifiable view of the compacted properties.
+	 * @return the compacted properties
+	 */
+	@Override
+	public Map<String, Object> getSource() {
+		return Collections.unmodifiableMap(this.source);
+	}
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.config.client;
+
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration.RefreshProperties;
+import org.springframework.cloud.context.refresh.ConfigDataContextRefresher;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * {@link ConfigDataContextRefresher} expanding the
+ * {@link CompactedConfigServerPropertySource} back into the property sources it merged
+ * before they are loaded again, and compacting them afterwards. The sources loaded again
+ * then replace the ones with the same name, and a source which is no longer served, or a
+ * property deleted on the config server, is reported in the changed keys.
+ */
+public class CompactingContextRefresher extends ConfigDataContextRefresher {
+
+	public CompactingContextRefresher(ConfigurableApplicationContext context, RefreshScope scope,
+			RefreshProperties properties) {
+		super(context, scope, properties);
+	}
+
+	@Override
+	protected void updateEnvironment() {
+		var propertySources = getContext().getEnvironment().getPropertySources();
+		CompactedConfigServerPropertySource.expand(propertySources);
+		super.updateEnvironment();
+		CompactedConfigServerPropertySource.compact(propertySources);
+	}
+
+}
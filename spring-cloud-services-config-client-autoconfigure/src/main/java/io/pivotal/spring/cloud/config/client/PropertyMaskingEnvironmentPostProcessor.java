@@ -1,5 +1,5 @@
 /*
- * Copyright 2021-2024 the original author or authors.
+ * Copyright 2021-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,30 +16,23 @@
 package io.pivotal.spring.cloud.config.client;
 
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Objects;
+import java.util.LinkedHashSet;
 import java.util.Properties;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.springframework.boot.EnvironmentPostProcessor;
 import org.springframework.boot.SpringApplication;
 import org.springframework.core.env.ConfigurableEnvironment;
-import org.springframework.core.env.EnumerablePropertySource;
-import org.springframework.core.env.MutablePropertySources;
 import org.springframework.core.env.PropertiesPropertySource;
-import org.springframework.core.env.PropertySource;
 import org.springframework.util.StringUtils;
 
 /**
- * Ensure client applications have `keys-to-sanitize` set so boot will automatically mask
- * sensitive properties. If client has manually set this property, merge it with any SCS
- * specific keys that need to be sanitized
+ * Ensure client applications have `keys-to-sanitize` set so sensitive properties are
+ * masked. If client has manually set this property, merge it with the default keys that
+ * need to be sanitized.
  * <p>
- * Need to search for the composite source `configService:vault:...` or
- * `configService:credhub-` and add them to `keys-to-sanitize` because Boot doesn't
- * support recursively sanitizing all properties in a single source
+ * The properties of the composite sources `configService:vault:...` or
+ * `configService:credhub-` are not added to `keys-to-sanitize`, as they are masked
+ * separately by {@link PropertyMaskingSanitizingFunction}.
  *
  * @author Ollie Hughes
  * @author Craig Walls
@@ -53,47 +46,30 @@ public class PropertyMaskingEnvironmentPostProcessor implements EnvironmentPostP
 
 	static final String SANITIZE_ENV_KEY = "management.endpoint.env.keys-to-sanitize";
 
-	private static final String VAULT_PROPERTY_PATTERN = "configserver:vault:";
-
-	private static final String CREDHUB_PROPERTY_PATTERN = "configserver:credhub-";
+	static final String[] DEFAULT_KEYS_TO_SANITIZE = { "password", "secret", "key", "token", ".*credentials.*",
+			"vcap_services" };
 
 	@Override
 	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
-		String[] defaultKeys = { "password", "secret", "key", "token", ".*credentials.*", "vcap_services" };
-		Set<String> propertiesToSanitize = Stream.of(defaultKeys).collect(Collectors.toSet());
+		var keysToSanitize = new LinkedHashSet<>(Arrays.asList(DEFAULT_KEYS_TO_SANITIZE));
 
-		MutablePropertySources propertySources = environment.getPropertySources();
-		Set<PropertySource<?>> configserverPropertySources = new HashSet<>();
-		for (PropertySource<?> propertySource : propertySources) {
-			if (propertySource.getName().startsWith("configserver:")) {
-				configserverPropertySources.add(propertySource);
-			}
+		var clientKeys = environment.getProperty(SANITIZE_ENV_KEY, String[].class);
+		if (clientKeys != null) {
+			keysToSanitize.addAll(Arrays.asList(clientKeys));
 		}
 
-		Stream<String> vaultKeyNameStream = configserverPropertySources.stream()
-			.filter(ps -> ps instanceof EnumerablePropertySource)
-			.filter(ps -> ps.getName().startsWith(VAULT_PROPERTY_PATTERN)
-					|| ps.getName().startsWith(CREDHUB_PROPERTY_PATTERN))
-			.map(ps -> ((EnumerablePropertySource) ps).getPropertyNames())
-			.flatMap(Arrays::stream);
-
-		propertiesToSanitize.addAll(vaultKeyNameStream.collect(Collectors.toSet()));
-
-		PropertiesPropertySource envKeysToSanitize = new PropertiesPropertySource(SANITIZE_ENV_KEY,
-				mergeClientProperties(propertySources, propertiesToSanitize));
-
-		environment.getPropertySources().addLast(envKeysToSanitize);
+		var props = new Properties();
+		props.setProperty(SANITIZE_ENV_KEY, StringUtils.collectionToCommaDelimitedString(keysToSanitize));
+		var envKeysToSanitize = new PropertiesPropertySource(SANITIZE_ENV_KEY, props);
 
-	}
-
-	private Properties mergeClientProperties(MutablePropertySources propertySources, Set<String> propertiesToSanitize) {
-		Properties props = new Properties();
+		var propertySources = environment.getPropertySources();
 		if (propertySources.contains(SANITIZE_ENV_KEY)) {
-			String clientProperties = Objects.requireNonNull(propertySources.get(SANITIZE_ENV_KEY)).toString();
-			propertiesToSanitize.addAll(Stream.of(clientProperties.split(",")).collect(Collectors.toSet()));
+			propertySources.replace(SANITIZE_ENV_KEY, envKeysToSanitize);
+		}
+		else {
+			// The merged value must take precedence over the client value
+			propertySources.addFirst(envKeysToSanitize);
 		}
-		props.setProperty(SANITIZE_ENV_KEY, StringUtils.arrayToCommaDelimitedString(propertiesToSanitize.toArray()));
-		return props;
 	}
 
 }
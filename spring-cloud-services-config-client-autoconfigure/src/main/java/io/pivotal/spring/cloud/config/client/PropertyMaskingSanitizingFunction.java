@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.config.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.actuate.endpoint.SanitizableData;
+import org.springframework.boot.actuate.endpoint.SanitizingFunction;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+
+/**
+ * {@link SanitizingFunction} masking every property served from a Vault or CredHub
+ * backend of config server, as well as any property matching the configured
+ * {@value PropertyMaskingEnvironmentPostProcessor#SANITIZE_ENV_KEY}.
+ * <p>
+ * The names of the Vault and CredHub properties are kept in an exact-key index, which is
+ * updated on every {@link EnvironmentChangeEvent}, so that secrets added by a refresh are
+ * masked as well. Only property sources that have been replaced since the last update are
+ * re-indexed.
+ */
+public class PropertyMaskingSanitizingFunction
+		implements SanitizingFunction, ApplicationListener<EnvironmentChangeEvent> {
+
+	private static final String VAULT_PROPERTY_PATTERN = "configserver:vault:";
+
+	private static final String CREDHUB_PROPERTY_PATTERN = "configserver:credhub-";
+
+	private static final String[] REGEX_PARTS = { "*", "$", "^", "+" };
+
+	private final ConfigurableEnvironment environment;
+
+	private final Map<String, IndexedPropertySource> indexedPropertySources = new HashMap<>();
+
+	private volatile Set<String> secretKeys = Set.of();
+
+	private volatile Pattern keysToSanitize;
+
+	public PropertyMaskingSanitizingFunction(ConfigurableEnvironment environment) {
+		this.environment = environment;
+		this.keysToSanitize = compileKeysToSanitize();
+		updateIndex();
+	}
+
+	@Override
+	public SanitizableData apply(SanitizableData data) {
+		if (data.getValue() == null) {
+			return data;
+		}
+		if (isSecretProperty(data.getPropertySource(), data.getKey()) || this.secretKeys.contains(data.getKey())
+				|| this.keysToSanitize.matcher(data.getKey()).matches()) {
+			return data.withSanitizedValue();
+		}
+		return data;
+	}
+
+	@Override
+	public void onApplicationEvent(EnvironmentChangeEvent event) {
+		if (event.getKeys().contains(PropertyMaskingEnvironmentPostProcessor.SANITIZE_ENV_KEY)) {
+			this.keysToSanitize = compileKeysToSanitize();
+		}
+		updateIndex();
+	}
+
+	private static boolean isSecretProperty(PropertySource<?> propertySource, String key) {
+		if (propertySource instanceof CompactedConfigServerPropertySource compacted) {
+			return isSecretPropertySource(compacted.getPropertySource(key));
+		}
+		return isSecretPropertySource(propertySource);
+	}
+
+	private static boolean isSecretPropertySource(PropertySource<?> propertySource) {
+		return propertySource != null && (propertySource.getName().startsWith(VAULT_PROPERTY_PATTERN)
+				|| propertySource.getName().startsWith(CREDHUB_PROPERTY_PATTERN));
+	}
+
+	private synchronized void updateIndex() {
+		var changed = false;
+		var names = new HashSet<String>();
+		for (PropertySource<?> propertySource : propertySources()) {
+			if (!isSecretPropertySource(propertySource)
+					|| !(propertySource instanceof EnumerablePropertySource<?> enumerablePropertySource)) {
+				continue;
+			}
+			names.add(propertySource.getName());
+			var indexed = this.indexedPropertySources.get(propertySource.getName());
+			if (indexed == null || indexed.propertySource() != propertySource) {
+				this.indexedPropertySources.put(propertySource.getName(), new IndexedPropertySource(propertySource,
+						Set.copyOf(Arrays.asList(enumerablePropertySource.getPropertyNames()))));
+				changed = true;
+			}
+		}
+		changed |= this.indexedPropertySources.keySet().retainAll(names);
+
+		if (changed) {
+			this.secretKeys = this.indexedPropertySources.values()
+				.stream()
+				.flatMap(indexed -> indexed.keys().stream())
+				.collect(Collectors.toUnmodifiableSet());
+		}
+	}
+
+	// Config server property sources, including the ones merged by compaction
+	private List<PropertySource<?>> propertySources() {
+		var propertySources = new ArrayList<PropertySource<?>>();
+		for (PropertySource<?> propertySource : this.environment.getPropertySources()) {
+			if (propertySource instanceof CompactedConfigServerPropertySource compacted) {
+				propertySources.addAll(compacted.getPropertySources());
+			}
+			else {
+				propertySources.add(propertySource);
+			}
+		}
+		return propertySources;
+	}
+
+	// Combines all keys into one pattern, keeping the semantics of the former Spring
+	// Boot Sanitizer: a key is matched as a suffix unless it is a regular expression.
+	private Pattern compileKeysToSanitize() {
+		var keys = this.environment.getProperty(PropertyMaskingEnvironmentPostProcessor.SANITIZE_ENV_KEY,
+				String[].class, PropertyMaskingEnvironmentPostProcessor.DEFAULT_KEYS_TO_SANITIZE);
+		var alternatives = Arrays.stream(keys)
+			.map(String::trim)
+			.filter(key -> !key.isEmpty())
+			.distinct()
+			.map(key -> isRegex(key) ? key : ".*" + Pattern.quote(key) + "$")
+			.collect(Collectors.joining("|", "(?:", ")"));
+		return Pattern.compile(alternatives, Pattern.CASE_INSENSITIVE);
+	}
+
+	private static boolean isRegex(String value) {
+		for (String part : REGEX_PARTS) {
+			if (value.contains(part)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private record IndexedPropertySource(PropertySource<?> propertySource, Set<String> keys) {
+
+	}
+
+}
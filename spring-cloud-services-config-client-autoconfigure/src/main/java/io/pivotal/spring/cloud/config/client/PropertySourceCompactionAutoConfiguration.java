@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.config.client;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration.RefreshProperties;
+import org.springframework.cloud.context.refresh.ConfigDataContextRefresher;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.cloud.util.ConditionalOnBootstrapDisabled;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuration for the {@link CompactingContextRefresher}, replacing the
+ * {@link ConfigDataContextRefresher} of Spring Cloud when
+ * <code>spring.cloud.config.client.compaction.enabled</code> is set to
+ * <code>true</code>.
+ */
+@AutoConfiguration(before = RefreshAutoConfiguration.class)
+@ConditionalOnProperty(PropertySourceCompactionEnvironmentPostProcessor.COMPACTION_ENABLED)
+@ConditionalOnBootstrapDisabled
+public class PropertySourceCompactionAutoConfiguration {
+
+	@Bean
+	@ConditionalOnProperty(name = RefreshAutoConfiguration.REFRESH_SCOPE_ENABLED, matchIfMissing = true)
+	public CompactingContextRefresher compactingContextRefresher(ConfigurableApplicationContext context,
+			RefreshScope scope, RefreshProperties properties) {
+		return new CompactingContextRefresher(context, scope, properties);
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.config.client;
+
+import org.springframework.boot.EnvironmentPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+
+/**
+ * Merges the property sources loaded from config server into a single
+ * {@link CompactedConfigServerPropertySource}, if
+ * <code>spring.cloud.config.client.compaction.enabled</code> is set to
+ * <code>true</code>.
+ * <p>
+ * Also registered as an {@link ApplicationListener}, to compact the property sources
+ * loaded again by a refresh which does not compact them itself, unlike the
+ * {@link CompactingContextRefresher}, before the configuration properties are rebound.
+ */
+public class PropertySourceCompactionEnvironmentPostProcessor
+		implements EnvironmentPostProcessor, ApplicationListener<EnvironmentChangeEvent>, Ordered {
+
+	static final String COMPACTION_ENABLED = "spring.cloud.config.client.compaction.enabled";
+
+	@Override
+	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+		if (isEnabled(environment)) {
+			CompactedConfigServerPropertySource.compact(environment.getPropertySources());
+		}
+	}
+
+	@Override
+	public void onApplicationEvent(EnvironmentChangeEvent event) {
+		if (event.getSource() instanceof ConfigurableApplicationContext context
+				&& isEnabled(context.getEnvironment())) {
+			CompactedConfigServerPropertySource.compact(context.getEnvironment().getPropertySources());
+		}
+	}
+
+	/**
+	 * It should be after {@link ConfigDataEnvironmentPostProcessor}, so that the config
+	 * server property sources are loaded.
+	 * @return the order of this {@link EnvironmentPostProcessor}
+	 */
+	@Override
+	public int getOrder() {
+		return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+	}
+
+	private boolean isEnabled(Environment environment) {
+		return environment.getProperty(COMPACTION_ENABLED, Boolean.class, false);
+	}
+
+}
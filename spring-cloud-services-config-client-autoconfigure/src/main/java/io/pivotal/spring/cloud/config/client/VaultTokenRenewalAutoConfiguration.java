@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2024 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,12 @@
  */
 package io.pivotal.spring.cloud.config.client;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +50,12 @@ import org.springframework.web.client.RestClientException;
  * `vault.token.renew.rate` to some value that is the renewal rate in milliseconds. The
  * renewal time-to-live can be specified with by setting `vault.token.ttl` to some value
  * indicating the time-to-live in milliseconds.
+ * <p>
+ * When more than one config server URI is configured, renewal is attempted against each
+ * node in turn, ordered by the observed renewal latency, so that a single unavailable
+ * node does not cause the token to expire. A node which failed to renew the token is
+ * tried last until `vault.token.renew.retry-delay` milliseconds (5 minutes by default)
+ * have elapsed.
  *
  * @author cwalls
  */
@@ -65,17 +76,21 @@ public class VaultTokenRenewalAutoConfiguration {
 	@Value("${vault.token.ttl:300000}")
 	long ttl;
 
+	// Default to retrying a failed node first after 300 seconds (5 minutes)
+	@Value("${vault.token.renew.retry-delay:300000}")
+	long retryDelay;
+
 	@Bean
 	@ConditionalOnBean(value = RestClient.class, name = "configClientRestClient")
 	public VaultTokenRefresher vaultTokenRefresher(
 			@Qualifier("configClientRestClient") RestClient configClientRestClient,
 			ConfigClientProperties configClientProperties) {
 
-		var refreshUri = configClientProperties.getUri()[0] + REFRESH_PATH;
+		var refreshUris = Arrays.stream(configClientProperties.getUri()).map(uri -> uri + REFRESH_PATH).toList();
 		String vaultToken = configClientProperties.getToken();
 		var obscuredToken = vaultToken.substring(0, 4) + "[*]" + vaultToken.substring(vaultToken.length() - 4);
 
-		return new VaultTokenRefresher(configClientRestClient, obscuredToken, this.ttl, refreshUri,
+		return new VaultTokenRefresher(configClientRestClient, obscuredToken, this.ttl, this.retryDelay, refreshUris,
 				buildTokenRenewRequest(vaultToken));
 	}
 
@@ -96,38 +111,150 @@ public class VaultTokenRenewalAutoConfiguration {
 
 		private final long ttl;
 
-		private final String refreshUri;
+		private final long retryDelayNanos;
+
+		private final List<ConfigServerNode> nodes;
 
 		private final HttpEntity<Map<String, Long>> request;
 
 		private final RestClient restClient;
 
-		VaultTokenRefresher(RestClient restClient, String obscuredToken, long ttl, String refreshUri,
-				HttpEntity<Map<String, Long>> request) {
+		VaultTokenRefresher(RestClient restClient, String obscuredToken, long ttl, long retryDelay,
+				List<String> refreshUris, HttpEntity<Map<String, Long>> request) {
 			this.restClient = restClient;
 			this.obscuredToken = obscuredToken;
 			this.ttl = ttl;
-			this.refreshUri = refreshUri;
+			this.retryDelayNanos = TimeUnit.MILLISECONDS.toNanos(retryDelay);
+			this.nodes = refreshUris.stream().map(ConfigServerNode::new).toList();
 			this.request = request;
 		}
 
 		// Default to renew token every 60 seconds
 		@Scheduled(fixedRateString = "${vault.token.renew.rate:60000}")
 		public void refreshVaultToken() {
+			LOGGER.debug("Renewing Vault token {} for {} milliseconds.", this.obscuredToken, this.ttl);
+			for (var node : rankedNodes()) {
+				if (renew(node)) {
+					return;
+				}
+			}
+			LOGGER.error("Unable to renew Vault token {}. Is the token invalid or expired?", this.obscuredToken);
+		}
+
+		/**
+		 * Returns the renewal statistics of every configured config server node, in the
+		 * order the nodes will be tried on the next renewal.
+		 * @return the per-node renewal statistics
+		 */
+		public List<NodeStatistics> getNodeStatistics() {
+			var now = System.nanoTime();
+			return this.nodes.stream()
+				.map(node -> node.statistics(now, this.retryDelayNanos))
+				.sorted(Comparator.comparing(NodeStatistics::failing)
+					.thenComparingDouble(NodeStatistics::averageLatency))
+				.toList();
+		}
+
+		private boolean renew(ConfigServerNode node) {
+			var start = System.nanoTime();
 			try {
-				LOGGER.debug("Renewing Vault token {} for {} milliseconds.", this.obscuredToken, this.ttl);
 				this.restClient.post()
-					.uri(this.refreshUri)
+					.uri(node.refreshUri)
 					.headers(headers -> headers.putAll(this.request.getHeaders()))
 					.body(this.request.getBody())
 					.retrieve()
 					.toBodilessEntity();
+				var latency = (System.nanoTime() - start) / 1_000_000;
+				node.recordSuccess(latency);
+				LOGGER.debug("Renewed Vault token {} using {} in {} milliseconds.", this.obscuredToken,
+						node.refreshUri, latency);
+				return true;
 			}
 			catch (RestClientException e) {
-				LOGGER.error("Unable to renew Vault token {}. Is the token invalid or expired?", this.obscuredToken);
+				node.recordFailure(System.nanoTime());
+				if (this.nodes.size() > 1) {
+					LOGGER.warn("Unable to renew Vault token {} using {}: {}", this.obscuredToken, node.refreshUri,
+							e.getMessage());
+				}
+				return false;
 			}
 		}
 
+		// Nodes which failed their last renewal within the retry delay go last, the rest by
+		// average latency. Only called from the renewal task, so the statistics are stable
+		// while sorting.
+		private List<ConfigServerNode> rankedNodes() {
+			var now = System.nanoTime();
+			var ranked = new ArrayList<>(this.nodes);
+			ranked.sort(Comparator.comparing((ConfigServerNode node) -> node.isFailing(now, this.retryDelayNanos))
+				.thenComparingDouble(ConfigServerNode::averageLatency));
+			return ranked;
+		}
+
+	}
+
+	/**
+	 * Renewal statistics of a single config server node.
+	 *
+	 * @param refreshUri the URI used to renew the token
+	 * @param averageLatency the exponentially weighted average renewal latency in
+	 * milliseconds
+	 * @param successCount the number of successful renewals
+	 * @param failureCount the number of failed renewals
+	 * @param failing whether the last renewal attempt failed within the retry delay
+	 */
+	public record NodeStatistics(String refreshUri, double averageLatency, long successCount, long failureCount,
+			boolean failing) {
+
+	}
+
+	private static final class ConfigServerNode {
+
+		// Weight of the latest renewal in the average renewal latency of the node
+		private static final double ALPHA = 0.3;
+
+		private final String refreshUri;
+
+		private double averageLatency;
+
+		private long successCount;
+
+		private long failureCount;
+
+		private boolean failing;
+
+		private long failedAt;
+
+		ConfigServerNode(String refreshUri) {
+			this.refreshUri = refreshUri;
+		}
+
+		synchronized void recordSuccess(long latency) {
+			this.averageLatency = (this.successCount == 0) ? latency
+					: ALPHA * latency + (1 - ALPHA) * this.averageLatency;
+			this.successCount++;
+			this.failing = false;
+		}
+
+		synchronized void recordFailure(long now) {
+			this.failureCount++;
+			this.failing = true;
+			this.failedAt = now;
+		}
+
+		synchronized boolean isFailing(long now, long retryDelay) {
+			return this.failing && now - this.failedAt < retryDelay;
+		}
+
+		synchronized double averageLatency() {
+			return this.averageLatency;
+		}
+
+		synchronized NodeStatistics statistics(long now, long retryDelay) {
+			return new NodeStatistics(this.refreshUri, this.averageLatency, this.successCount, this.failureCount,
+					isFailing(now, retryDelay));
+		}
+
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021-2024 the original author or authors.
+ * Copyright 2021-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,12 +21,12 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.SanitizableData;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.context.SpringBootContextLoader;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.core.env.ConfigurableEnvironment;
-import org.springframework.core.env.Environment;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.test.context.ContextConfiguration;
@@ -45,24 +45,40 @@ public class PropertyMaskingEnvironmentPostProcessorTest {
 	private static final String GIT_TEST_NON_SANITIZE_PROPERTY = "ReadableProperty";
 
 	@Autowired
-	Environment environment;
+	ConfigurableEnvironment environment;
+
+	@Autowired
+	PropertyMaskingSanitizingFunction sanitizingFunction;
 
 	@Test
-	public void vaultPropertyIsIncludedInSanitizeEndpoints() {
+	public void defaultKeysAreIncludedInSanitizeEndpoints() {
 		String sanitizeEndpointsProp = this.environment
 			.getProperty(PropertyMaskingEnvironmentPostProcessor.SANITIZE_ENV_KEY);
 
 		assertThat(sanitizeEndpointsProp).isNotNull();
-		assertThat(sanitizeEndpointsProp).contains(VAULT_TEST_SANITIZE_PROPERTY);
+		assertThat(sanitizeEndpointsProp).contains(PropertyMaskingEnvironmentPostProcessor.DEFAULT_KEYS_TO_SANITIZE);
 	}
 
 	@Test
-	public void credhubPropertyIsIncludedInSanitizeEndpoints() {
-		String sanitizeEndpointsProp = this.environment
-			.getProperty(PropertyMaskingEnvironmentPostProcessor.SANITIZE_ENV_KEY);
+	public void vaultPropertyIsSanitized() {
+		assertThat(sanitize("configserver:git:test-data", VAULT_TEST_SANITIZE_PROPERTY))
+			.isEqualTo(SanitizableData.SANITIZED_VALUE);
+		assertThat(sanitize("configserver:vault:test-data", VAULT_TEST_SANITIZE_PROPERTY))
+			.isEqualTo(SanitizableData.SANITIZED_VALUE);
+	}
 
-		assertThat(sanitizeEndpointsProp).isNotNull();
-		assertThat(sanitizeEndpointsProp).contains(CREDHUB_TEST_SANITIZE_PROPERTY);
+	@Test
+	public void credhubPropertyIsSanitized() {
+		assertThat(sanitize("configserver:git:test-data", CREDHUB_TEST_SANITIZE_PROPERTY))
+			.isEqualTo(SanitizableData.SANITIZED_VALUE);
+		assertThat(sanitize("configserver:credhub-test-data", CREDHUB_TEST_SANITIZE_PROPERTY))
+			.isEqualTo(SanitizableData.SANITIZED_VALUE);
+	}
+
+	@Test
+	public void gitPropertyIsNotSanitized() {
+		assertThat(sanitize("configserver:git:test-data", GIT_TEST_NON_SANITIZE_PROPERTY)).isEqualTo("value");
+		assertThat(sanitize("configserver:git:test-data", "my-password")).isEqualTo(SanitizableData.SANITIZED_VALUE);
 	}
 
 	@Test
@@ -74,6 +90,11 @@ public class PropertyMaskingEnvironmentPostProcessorTest {
 		assertThat(sanitizeEndpointsProp).doesNotContain(GIT_TEST_NON_SANITIZE_PROPERTY);
 	}
 
+	private Object sanitize(String propertySourceName, String key) {
+		var propertySource = this.environment.getPropertySources().get(propertySourceName);
+		return this.sanitizingFunction.apply(new SanitizableData(propertySource, key, "value")).getValue();
+	}
+
 	@SpringBootApplication
 	static class TestVaultApplication {
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.config.client;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.actuate.endpoint.SanitizableData;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PropertyMaskingSanitizingFunctionTest {
+
+	private final StandardEnvironment environment = new StandardEnvironment();
+
+	@Test
+	public void defaultKeysAreSanitized() {
+		var function = new PropertyMaskingSanitizingFunction(this.environment);
+
+		assertThat(sanitize(function, "spring.datasource.password")).isEqualTo(SanitizableData.SANITIZED_VALUE);
+		assertThat(sanitize(function, "my.aws.credentials.id")).isEqualTo(SanitizableData.SANITIZED_VALUE);
+		assertThat(sanitize(function, "vcap_services")).isEqualTo(SanitizableData.SANITIZED_VALUE);
+		assertThat(sanitize(function, "server.port")).isEqualTo("value");
+	}
+
+	@Test
+	public void configuredKeysAreSanitized() {
+		this.environment.getPropertySources()
+			.addFirst(new MapPropertySource("client",
+					Map.of(PropertyMaskingEnvironmentPostProcessor.SANITIZE_ENV_KEY, "pin,^internal\\..*")));
+		var function = new PropertyMaskingSanitizingFunction(this.environment);
+
+		assertThat(sanitize(function, "card.pin")).isEqualTo(SanitizableData.SANITIZED_VALUE);
+		assertThat(sanitize(function, "internal.url")).isEqualTo(SanitizableData.SANITIZED_VALUE);
+		assertThat(sanitize(function, "external.url")).isEqualTo("value");
+	}
+
+	@Test
+	public void vaultPropertiesAddedOnRefreshAreSanitized() {
+		this.environment.getPropertySources()
+			.addFirst(new MapPropertySource("configserver:vault:app", Map.of("first", "secret")));
+		var function = new PropertyMaskingSanitizingFunction(this.environment);
+
+		assertThat(sanitize(function, "first")).isEqualTo(SanitizableData.SANITIZED_VALUE);
+		assertThat(sanitize(function, "second")).isEqualTo("value");
+
+		this.environment.getPropertySources()
+			.replace("configserver:vault:app",
+					new MapPropertySource("configserver:vault:app", Map.of("first", "secret", "second", "secret")));
+		function.onApplicationEvent(new EnvironmentChangeEvent(Set.of("second")));
+
+		assertThat(sanitize(function, "first")).isEqualTo(SanitizableData.SANITIZED_VALUE);
+		assertThat(sanitize(function, "second")).isEqualTo(SanitizableData.SANITIZED_VALUE);
+	}
+
+	@Test
+	public void vaultPropertiesRemovedOnRefreshAreNoLongerSanitized() {
+		this.environment.getPropertySources()
+			.addFirst(new MapPropertySource("configserver:credhub-app", Map.of("first", "secret")));
+		var function = new PropertyMaskingSanitizingFunction(this.environment);
+
+		assertThat(sanitize(function, "first")).isEqualTo(SanitizableData.SANITIZED_VALUE);
+
+		this.environment.getPropertySources().remove("configserver:credhub-app");
+		function.onApplicationEvent(new EnvironmentChangeEvent(Set.of("first")));
+
+		assertThat(sanitize(function, "first")).isEqualTo("value");
+	}
+
+	private static Object sanitize(PropertyMaskingSanitizingFunction function, String key) {
+		return function.apply(new SanitizableData(null, key, "value")).getValue();
+	}
+
+}
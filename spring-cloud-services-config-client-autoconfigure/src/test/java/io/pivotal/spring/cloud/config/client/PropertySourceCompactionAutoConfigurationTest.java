@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.config.client;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PropertySourceCompactionAutoConfigurationTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner().withConfiguration(
+			AutoConfigurations.of(PropertySourceCompactionAutoConfiguration.class, RefreshAutoConfiguration.class));
+
+	@Test
+	void contextRefresherIsNotReplacedByDefault() {
+		this.contextRunner.run(context -> assertThat(context).getBean(ContextRefresher.class)
+			.isNotInstanceOf(CompactingContextRefresher.class));
+	}
+
+	@Test
+	void contextRefresherExpandsCompactedPropertySourcesWhenCompactionIsEnabled() {
+		this.contextRunner.withPropertyValues("spring.cloud.config.client.compaction.enabled=true")
+			.run(context -> assertThat(context).getBean(ContextRefresher.class)
+				.isInstanceOf(CompactingContextRefresher.class));
+	}
+
+}
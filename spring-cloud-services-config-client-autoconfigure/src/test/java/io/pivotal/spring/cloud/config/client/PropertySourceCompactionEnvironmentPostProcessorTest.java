@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.config.client;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.origin.PropertySourceOrigin;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PropertySourceCompactionEnvironmentPostProcessorTest {
+
+	private static final String FIRST_CONFIG_SERVER_SOURCE = "configserver:git:app-dev.yml";
+
+	private PropertySourceCompactionEnvironmentPostProcessor postProcessor;
+
+	private StandardEnvironment environment;
+
+	@BeforeEach
+	public void setup() {
+		this.postProcessor = new PropertySourceCompactionEnvironmentPostProcessor();
+		this.environment = new StandardEnvironment();
+		var propertySources = this.environment.getPropertySources();
+		propertySources.addFirst(new MapPropertySource("application", Map.of("a", "application", "d", "application")));
+		propertySources.addFirst(new MapPropertySource("configserver:git:app.yml", Map.of("a", "git", "c", "git")));
+		propertySources.addFirst(new MapPropertySource("configserver:vault:app", Map.of("b", "vault", "c", "vault")));
+		propertySources.addFirst(new MapPropertySource("configserver:git:app-dev.yml", Map.of("a", "git-dev")));
+	}
+
+	@Test
+	public void propertySourcesAreNotCompactedByDefault() {
+		this.postProcessor.postProcessEnvironment(this.environment, null);
+
+		var propertySources = this.environment.getPropertySources();
+		assertThat(propertySources.contains(CompactedConfigServerPropertySource.NAME)).isFalse();
+		assertThat(propertySources.contains("configserver:vault:app")).isTrue();
+	}
+
+	@Test
+	public void configServerPropertySourcesAreCompactedInPrecedenceOrder() {
+		enableCompaction();
+
+		this.postProcessor.postProcessEnvironment(this.environment, null);
+
+		var propertySources = this.environment.getPropertySources();
+		assertThat(propertySources.stream().map(PropertySource::getName)).startsWith(
+				CompactedConfigServerPropertySource.NAME, "application",
+				StandardEnvironment.SYSTEM_PROPERTIES_PROPERTY_SOURCE_NAME);
+
+		assertThat(this.environment.getProperty("a")).isEqualTo("git-dev");
+		assertThat(this.environment.getProperty("b")).isEqualTo("vault");
+		assertThat(this.environment.getProperty("c")).isEqualTo("vault");
+		assertThat(this.environment.getProperty("d")).isEqualTo("application");
+
+		var compacted = (CompactedConfigServerPropertySource) propertySources
+			.get(CompactedConfigServerPropertySource.NAME);
+		assertThat(compacted.getPropertyNames()).containsExactlyInAnyOrder("a", "b", "c");
+		assertThat(compacted.getPropertySource("c").getName()).isEqualTo("configserver:vault:app");
+		var origin = (PropertySourceOrigin) compacted.getOrigin("a");
+		assertThat(origin.getPropertySource().getName()).isEqualTo("configserver:git:app-dev.yml");
+	}
+
+	@Test
+	public void refreshedPropertySourcesAreCompactedAgain() {
+		enableCompaction();
+		this.postProcessor.postProcessEnvironment(this.environment, null);
+
+		var refreshed = new MutablePropertySources();
+		refreshed.addLast(new MapPropertySource(FIRST_CONFIG_SERVER_SOURCE, Map.of("a", "refreshed")));
+		refreshed.addLast(new MapPropertySource("configserver:vault:app", Map.of("b", "refreshed")));
+		refresh(refreshed);
+
+		var propertySources = this.environment.getPropertySources();
+		assertThat(this.environment.getProperty("a")).isEqualTo("refreshed");
+		assertThat(this.environment.getProperty("b")).isEqualTo("refreshed");
+		// Served by the source which was not loaded again, as without compaction
+		assertThat(this.environment.getProperty("c")).isEqualTo("git");
+		assertThat(propertySources.contains("configserver:vault:app")).isFalse();
+		assertThat(propertySources.contains(FIRST_CONFIG_SERVER_SOURCE)).isFalse();
+		assertThat(propertySources.get(CompactedConfigServerPropertySource.NAME))
+			.isInstanceOf(CompactedConfigServerPropertySource.class);
+	}
+
+	@Test
+	public void propertiesOfSourceRenamedOnRefreshAreReplaced() {
+		enableCompaction();
+		this.postProcessor.postProcessEnvironment(this.environment, null);
+
+		// The profile changed from dev to prod, "c" is deleted from both backends
+		var refreshed = new MutablePropertySources();
+		refreshed.addLast(new MapPropertySource("configserver:git:app-prod.yml", Map.of("a", "git-prod")));
+		refreshed.addLast(new MapPropertySource("configserver:vault:app", Map.of("b", "vault")));
+		refreshed.addLast(new MapPropertySource("configserver:git:app.yml", Map.of("a", "git")));
+		var event = refresh(refreshed);
+
+		var propertySources = this.environment.getPropertySources();
+		assertThat(event.getKeys()).containsExactlyInAnyOrder("a", "c");
+		assertThat(this.environment.getProperty("a")).isEqualTo("git-prod");
+		assertThat(this.environment.getProperty("c")).isNull();
+		assertThat(propertySources.stream().filter(CompactedConfigServerPropertySource.class::isInstance))
+			.hasSize(1);
+		assertThat(propertySources.contains(FIRST_CONFIG_SERVER_SOURCE)).isFalse();
+	}
+
+	@Test
+	public void propertiesDeletedOnConfigServerAreReportedOnRefresh() {
+		enableCompaction();
+		this.postProcessor.postProcessEnvironment(this.environment, null);
+
+		// "c" is deleted from both backends
+		var refreshed = new MutablePropertySources();
+		refreshed.addLast(new MapPropertySource(FIRST_CONFIG_SERVER_SOURCE, Map.of("a", "git-dev")));
+		refreshed.addLast(new MapPropertySource("configserver:vault:app", Map.of("b", "vault")));
+		refreshed.addLast(new MapPropertySource("configserver:git:app.yml", Map.of("a", "git")));
+		var event = refresh(refreshed);
+
+		assertThat(event.getKeys()).containsExactly("c");
+		assertThat(this.environment.getProperty("c")).isNull();
+	}
+
+	@Test
+	public void compactedPropertySourceIsKeptWhenRefreshLoadsNothing() {
+		enableCompaction();
+		this.postProcessor.postProcessEnvironment(this.environment, null);
+
+		var context = new GenericApplicationContext();
+		context.setEnvironment(this.environment);
+		this.postProcessor.onApplicationEvent(new EnvironmentChangeEvent(context, Set.of()));
+
+		assertThat(this.environment.getProperty("a")).isEqualTo("git-dev");
+	}
+
+	/**
+	 * Refreshes the environment the way {@link CompactingContextRefresher} does: the
+	 * compacted property source is expanded, the property sources loaded again replace
+	 * the ones with the same name, or are added after the previous one, they are
+	 * compacted, then the changed keys are published in an {@link EnvironmentChangeEvent}.
+	 */
+	private EnvironmentChangeEvent refresh(MutablePropertySources refreshed) {
+		var before = extract(this.environment.getPropertySources());
+		var target = this.environment.getPropertySources();
+		CompactedConfigServerPropertySource.expand(target);
+		String targetName = null;
+		for (var propertySource : refreshed) {
+			var name = propertySource.getName();
+			if (target.contains(name)) {
+				target.replace(name, propertySource);
+			}
+			else if (targetName != null) {
+				target.addAfter(targetName, propertySource);
+			}
+			else {
+				target.addFirst(propertySource);
+			}
+			targetName = name;
+		}
+		CompactedConfigServerPropertySource.compact(target);
+		var after = extract(target);
+		var keys = new HashSet<String>();
+		before.forEach((key, value) -> {
+			if (!Objects.equals(value, after.get(key))) {
+				keys.add(key);
+			}
+		});
+		after.keySet().stream().filter(key -> !before.containsKey(key)).forEach(keys::add);
+
+		var context = new GenericApplicationContext();
+		context.setEnvironment(this.environment);
+		var event = new EnvironmentChangeEvent(context, keys);
+		this.postProcessor.onApplicationEvent(event);
+		return event;
+	}
+
+	private static Map<String, Object> extract(MutablePropertySources propertySources) {
+		var properties = new HashMap<String, Object>();
+		for (var propertySource : propertySources) {
+			if (propertySource instanceof EnumerablePropertySource<?> enumerable) {
+				for (var name : enumerable.getPropertyNames()) {
+					properties.putIfAbsent(name, enumerable.getProperty(name));
+				}
+			}
+		}
+		return properties;
+	}
+
+	private void enableCompaction() {
+		this.environment.getPropertySources()
+			.addLast(new MapPropertySource("flags",
+					Map.of(PropertySourceCompactionEnvironmentPostProcessor.COMPACTION_ENABLED, "true")));
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2024 the original author or authors.
+ * Copyright 2017-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,6 +29,7 @@ import org.springframework.web.client.RestClient;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.containing;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
 import static com.github.tomakehurst.wiremock.client.WireMock.moreThan;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
@@ -80,6 +81,57 @@ public class VaultTokenRenewalAutoConfigurationTest {
 		});
 	}
 
+	@Test
+	void failsOverToNextConfigServerNode() {
+		stubFor(post("/vault/v1/auth/token/renew-self").withHost(equalTo("server1.local"))
+			.willReturn(aResponse().withStatus(503)));
+		stubFor(post("/vault/v1/auth/token/renew-self").withHost(equalTo("server2.local"))
+			.willReturn(aResponse().withHeader("Content-Type", "plain/text").withBody("new-token")));
+
+		this.contextRunner
+			.withPropertyValues("spring.cloud.config.token=vault-token",
+					"spring.cloud.config.uri=http://server1.local,http://server2.local")
+			.run(context -> {
+				await().atMost(3L, TimeUnit.SECONDS)
+					.untilAsserted(() -> verify(moreThan(2),
+							postRequestedFor(urlEqualTo("/vault/v1/auth/token/renew-self"))
+								.withHost(equalTo("server2.local"))));
+
+				// The failed node is ranked last, so it is not retried while the other
+				// node is healthy
+				verify(exactly(1), postRequestedFor(urlEqualTo("/vault/v1/auth/token/renew-self"))
+					.withHost(equalTo("server1.local")));
+
+				var statistics = context.getBean(VaultTokenRefresher.class).getNodeStatistics();
+				assertThat(statistics).hasSize(2);
+				assertThat(statistics.get(0).refreshUri())
+					.isEqualTo("http://server2.local/vault/v1/auth/token/renew-self");
+				assertThat(statistics.get(0).successCount()).isGreaterThan(2);
+				assertThat(statistics.get(0).failing()).isFalse();
+				assertThat(statistics.get(1).refreshUri())
+					.isEqualTo("http://server1.local/vault/v1/auth/token/renew-self");
+				assertThat(statistics.get(1).failureCount()).isEqualTo(1);
+				assertThat(statistics.get(1).failing()).isTrue();
+			});
+	}
+
+	@Test
+	void retriesFailedConfigServerNodeAfterRetryDelay() {
+		stubFor(post("/vault/v1/auth/token/renew-self").withHost(equalTo("server1.local"))
+			.willReturn(aResponse().withStatus(503)));
+		stubFor(post("/vault/v1/auth/token/renew-self").withHost(equalTo("server2.local"))
+			.willReturn(aResponse().withHeader("Content-Type", "plain/text").withBody("new-token")));
+
+		this.contextRunner
+			.withPropertyValues("spring.cloud.config.token=vault-token",
+					"spring.cloud.config.uri=http://server1.local,http://server2.local",
+					"vault.token.renew.retry-delay=0")
+			.run(context -> await().atMost(3L, TimeUnit.SECONDS)
+				.untilAsserted(() -> verify(moreThan(2),
+						postRequestedFor(urlEqualTo("/vault/v1/auth/token/renew-self"))
+							.withHost(equalTo("server1.local")))));
+	}
+
 	private String[] applicationProperties() {
 		return new String[] { "vault.token.renew.rate=1000", "spring.cloud.config.uri=http://server.local" };
 	}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.oauth2.client;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+/**
+ * {@link ClientHttpRequestFactory} decorator adding the authorization header to every
+ * request created by the delegate, based on an {@link OAuth2AccessTokenProvider}.
+ * <p>
+ * Unlike {@link OAuth2AuthorizedClientHttpRequestInterceptor}, the request is returned
+ * as created by the delegate, so its body is streamed rather than buffered.
+ */
+public class OAuth2AuthorizedClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+	private final ClientHttpRequestFactory delegate;
+
+	private final OAuth2AccessTokenProvider tokenProvider;
+
+	public OAuth2AuthorizedClientHttpRequestFactory(ClientHttpRequestFactory delegate,
+			OAuth2AccessTokenProvider tokenProvider) {
+		this.delegate = delegate;
+		this.tokenProvider = tokenProvider;
+	}
+
+	@Override
+	public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+		var request = this.delegate.createRequest(uri, httpMethod);
+
+		var token = this.tokenProvider.getAccessToken();
+		if (token != null) {
+			request.getHeaders().setBearerAuth(token.getTokenValue());
+		}
+
+		return request;
+	}
+
+}
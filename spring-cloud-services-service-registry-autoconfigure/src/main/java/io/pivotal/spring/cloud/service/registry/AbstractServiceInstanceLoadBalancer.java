@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+/**
+ * Base {@link ReactorServiceInstanceLoadBalancer} taking the instances of a service from
+ * its {@link ServiceInstanceListSupplier}, and handling a service without instances and
+ * the {@link SelectedInstanceCallback} of the supplier the way the load balancers of
+ * Spring Cloud LoadBalancer do, so that subclasses only choose among the instances.
+ */
+public abstract class AbstractServiceInstanceLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+
+	private final String serviceId;
+
+	protected AbstractServiceInstanceLoadBalancer(
+			ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider, String serviceId) {
+		this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+		this.serviceId = serviceId;
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Mono<Response<ServiceInstance>> choose(Request request) {
+		var supplier = this.serviceInstanceListSupplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+		return supplier.get(request).next().map(instances -> processInstanceResponse(supplier, instances, request));
+	}
+
+	/**
+	 * Chooses the instance the given request goes to.
+	 * @param instances the instances of the service, never empty
+	 * @param request the load-balanced request
+	 * @return the chosen instance
+	 */
+	protected abstract ServiceInstance chooseInstance(List<ServiceInstance> instances, Request<?> request);
+
+	private Response<ServiceInstance> processInstanceResponse(ServiceInstanceListSupplier supplier,
+			List<ServiceInstance> instances, Request<?> request) {
+		var response = getInstanceResponse(instances, request);
+		if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+			callback.selectedServiceInstance(response.getServer());
+		}
+		return response;
+	}
+
+	private Response<ServiceInstance> getInstanceResponse(List<ServiceInstance> instances, Request<?> request) {
+		if (instances.isEmpty()) {
+			this.logger.warn("No servers available for service: {}", this.serviceId);
+			return new EmptyResponse();
+		}
+		return new DefaultResponse(chooseInstance(instances, request));
+	}
+
+}
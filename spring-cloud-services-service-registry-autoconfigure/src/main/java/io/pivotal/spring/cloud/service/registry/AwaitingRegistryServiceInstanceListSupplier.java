@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+/**
+ * {@link ServiceInstanceListSupplier} holding back lookups until the Eureka client,
+ * initialized in the background by {@link EurekaAsyncRegistration}, has fetched the
+ * registry. A lookup waits at most the given time, after which no instances are
+ * returned. The delegate is not called before, so that it does not block on the client
+ * creation.
+ */
+public class AwaitingRegistryServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+	private final CompletableFuture<Void> initialization;
+
+	private final Duration maxWait;
+
+	public AwaitingRegistryServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
+			CompletionStage<Void> initialization, Duration maxWait) {
+		super(delegate);
+		this.initialization = initialization.toCompletableFuture();
+		this.maxWait = maxWait;
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get() {
+		return await(() -> this.delegate.get());
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get(Request request) {
+		return await(() -> this.delegate.get(request));
+	}
+
+	// A failed initialization is left to the delegate, which creates the client on demand
+	private Flux<List<ServiceInstance>> await(Supplier<Flux<List<ServiceInstance>>> instances) {
+		if (this.initialization.isDone()) {
+			return instances.get();
+		}
+		return Mono.fromFuture(this.initialization, true)
+			.then(Mono.just(true))
+			.timeout(this.maxWait, Mono.just(false))
+			.onErrorReturn(true)
+			.flatMapMany(initialized -> initialized ? instances.get() : Flux.just(List.of()));
+	}
+
+}
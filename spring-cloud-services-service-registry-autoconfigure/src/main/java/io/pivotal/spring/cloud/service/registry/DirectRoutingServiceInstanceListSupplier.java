@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link ServiceInstanceListSupplier} replacing the route of instances that published
+ * their container address in metadata with that address, as long as it is reachable from
+ * this instance, so that calls made over container networking skip the router.
+ * <p>
+ * Reachability is checked with a connection attempt made in the background, the route is
+ * used until the container address is known to be reachable. Only the reachability of the
+ * addresses of the latest instances is kept, it is pruned when the delegate supplies
+ * another list of instances.
+ */
+public class DirectRoutingServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+	public static final String CF_INSTANCE_INTERNAL_IP = "cfInstanceInternalIp";
+
+	public static final String CF_INSTANCE_INTERNAL_PORT = "cfInstanceInternalPort";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DirectRoutingServiceInstanceListSupplier.class);
+
+	private final Duration probeTimeout;
+
+	private final long probeIntervalNanos;
+
+	private final Map<InetSocketAddress, Reachability> reachabilities = new ConcurrentHashMap<>();
+
+	private volatile List<ServiceInstance> lastInstances;
+
+	public DirectRoutingServiceInstanceListSupplier(ServiceInstanceListSupplier delegate, Duration probeTimeout,
+			Duration probeInterval) {
+		super(delegate);
+		this.probeTimeout = probeTimeout;
+		this.probeIntervalNanos = probeInterval.toNanos();
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get() {
+		return this.delegate.get().map(this::route);
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get(Request request) {
+		return this.delegate.get(request).map(this::route);
+	}
+
+	private List<ServiceInstance> route(List<ServiceInstance> instances) {
+		List<ServiceInstance> routed = null;
+		// Cached suppliers keep supplying the same list until the registry changes
+		var addresses = (instances != this.lastInstances) ? new HashSet<InetSocketAddress>() : null;
+		for (int i = 0; i < instances.size(); i++) {
+			var instance = instances.get(i);
+			var direct = directInstance(instance, addresses);
+			if (direct != instance && routed == null) {
+				routed = new ArrayList<>(instances.subList(0, i));
+			}
+			if (routed != null) {
+				routed.add(direct);
+			}
+		}
+		if (addresses != null) {
+			// Instances dropped from the registry are no longer probed
+			this.reachabilities.keySet().retainAll(addresses);
+			this.lastInstances = instances;
+		}
+		return (routed != null) ? routed : instances;
+	}
+
+	private ServiceInstance directInstance(ServiceInstance instance, Set<InetSocketAddress> addresses) {
+		var address = containerAddress(instance);
+		if (address == null || address.getHostString().equals(instance.getHost())) {
+			return instance;
+		}
+		if (addresses != null) {
+			addresses.add(address);
+		}
+		if (!isReachable(address)) {
+			return instance;
+		}
+		return new DefaultServiceInstance(instance.getInstanceId(), instance.getServiceId(), address.getHostString(),
+				address.getPort(), false, instance.getMetadata());
+	}
+
+	private static InetSocketAddress containerAddress(ServiceInstance instance) {
+		var metadata = instance.getMetadata();
+		if (metadata == null) {
+			return null;
+		}
+		var ip = metadata.get(CF_INSTANCE_INTERNAL_IP);
+		var port = metadata.get(CF_INSTANCE_INTERNAL_PORT);
+		if (ObjectUtils.isEmpty(ip) || ObjectUtils.isEmpty(port)) {
+			return null;
+		}
+		try {
+			return InetSocketAddress.createUnresolved(ip, Integer.parseInt(port));
+		}
+		catch (IllegalArgumentException ex) {
+			LOGGER.debug("Ignoring invalid container address {}:{} of instance {}", ip, port,
+					instance.getInstanceId());
+			return null;
+		}
+	}
+
+	private boolean isReachable(InetSocketAddress address) {
+		var now = System.nanoTime();
+		var reachability = this.reachabilities.get(address);
+		if (reachability == null || (now - reachability.checkedAt() > this.probeIntervalNanos)) {
+			var probing = new Reachability(reachability != null && reachability.reachable(), now);
+			// Only one probe at a time per address, the previous outcome is used meanwhile
+			if ((reachability == null) ? this.reachabilities.putIfAbsent(address, probing) == null
+					: this.reachabilities.replace(address, reachability, probing)) {
+				Schedulers.boundedElastic().schedule(() -> probe(address));
+			}
+			return probing.reachable();
+		}
+		return reachability.reachable();
+	}
+
+	private void probe(InetSocketAddress address) {
+		var reachable = false;
+		try (var socket = new Socket()) {
+			socket.connect(new InetSocketAddress(address.getHostString(), address.getPort()),
+					(int) this.probeTimeout.toMillis());
+			reachable = true;
+		}
+		catch (IOException ex) {
+			LOGGER.debug("Container address {} is not reachable, using route", address, ex);
+		}
+		var outcome = new Reachability(reachable, System.nanoTime());
+		// Not kept if the instance was dropped in the meantime
+		this.reachabilities.computeIfPresent(address, (key, probing) -> outcome);
+	}
+
+	private record Reachability(boolean reachable, long checkedAt) {
+
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.EurekaInstanceConfig;
+import com.netflix.appinfo.HealthCheckHandler;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.EurekaClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.netflix.eureka.EurekaInstanceConfigBean;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * Initializes the Eureka client, which runs the initial registry fetch, and registers the
+ * instance in the background once the application is ready, replacing the auto
+ * registration of Spring Cloud, which runs them during startup. As the auto registration
+ * does, the port of the web server is registered unless a port is configured explicitly.
+ * <p>
+ * The outcome is exposed through {@link #initialized()}, so that load-balanced lookups
+ * can wait for the initial registry fetch instead of blocking on the client creation.
+ */
+public class EurekaAsyncRegistration implements ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EurekaAsyncRegistration.class);
+
+	private final ObjectProvider<EurekaClient> eurekaClient;
+
+	private final ApplicationInfoManager applicationInfoManager;
+
+	private final EurekaInstanceConfig instanceConfig;
+
+	private final ObjectProvider<HealthCheckHandler> healthCheckHandler;
+
+	private final Environment environment;
+
+	private final AtomicBoolean started = new AtomicBoolean();
+
+	private final CompletableFuture<Void> initialization = new CompletableFuture<>();
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		var thread = new Thread(runnable, "eureka-async-registration");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public EurekaAsyncRegistration(ObjectProvider<EurekaClient> eurekaClient,
+			ApplicationInfoManager applicationInfoManager, EurekaInstanceConfig instanceConfig,
+			ObjectProvider<HealthCheckHandler> healthCheckHandler, Environment environment) {
+		this.eurekaClient = eurekaClient;
+		this.applicationInfoManager = applicationInfoManager;
+		this.instanceConfig = instanceConfig;
+		this.healthCheckHandler = healthCheckHandler;
+		this.environment = environment;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		if (this.started.compareAndSet(false, true)) {
+			this.executor.execute(this::register);
+		}
+	}
+
+	/**
+	 * Returns a stage completed once the Eureka client is initialized, or failed if it
+	 * could not be.
+	 * @return the initialization stage
+	 */
+	public CompletionStage<Void> initialized() {
+		return this.initialization.minimalCompletionStage();
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+	void register() {
+		var start = System.nanoTime();
+		try {
+			applyLocalServerPort();
+			var eurekaClient = this.eurekaClient.getObject();
+			eurekaClient.getApplications();
+			this.healthCheckHandler.ifAvailable(eurekaClient::registerHealthCheck);
+			markInitialStatus();
+			LOGGER.info("Eureka client initialized in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+			this.initialization.complete(null);
+		}
+		catch (RuntimeException ex) {
+			LOGGER.warn("Eureka client initialization failed", ex);
+			this.initialization.completeExceptionally(ex);
+		}
+		finally {
+			this.executor.shutdown();
+		}
+	}
+
+	// Port 0 means the port was not configured and the web server picked one
+	private void applyLocalServerPort() {
+		var port = this.environment.getProperty("local.server.port", Integer.class);
+		if (port == null || !(this.instanceConfig instanceof EurekaInstanceConfigBean config)) {
+			return;
+		}
+		// Updated in place, as the instance info may have been created already
+		var instanceInfo = this.applicationInfoManager.getInfo();
+		var builder = new InstanceInfo.Builder(instanceInfo);
+		if (config.getNonSecurePort() == 0) {
+			config.setNonSecurePort(port);
+			builder.setPort(port);
+			instanceInfo.setIsDirty();
+		}
+		if (config.getSecurePort() == 0 && config.getSecurePortEnabled()) {
+			config.setSecurePort(port);
+			builder.setSecurePort(port);
+			instanceInfo.setIsDirty();
+		}
+	}
+
+	private void markInitialStatus() {
+		// Leave alone a status changed in the meantime, such as UP after a warm-up
+		if (this.applicationInfoManager.getInfo().getStatus() == InstanceStatus.STARTING) {
+			this.applicationInfoManager.setInstanceStatus(this.instanceConfig.getInitialStatus());
+		}
+	}
+
+}
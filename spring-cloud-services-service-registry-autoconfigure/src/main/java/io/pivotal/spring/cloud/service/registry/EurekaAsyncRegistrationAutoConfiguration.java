@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.EurekaInstanceConfig;
+import com.netflix.appinfo.HealthCheckHandler;
+import com.netflix.discovery.EurekaClient;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.netflix.eureka.EurekaClientAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Auto-configuration of the background registration with the service registry, see
+ * {@link EurekaAsyncRegistrationProperties}. The auto registration of Spring Cloud is
+ * disabled by {@link EurekaClientEnvironmentPostProcessor}.
+ */
+@AutoConfiguration(after = EurekaClientAutoConfiguration.class)
+@ConditionalOnProperty(EurekaClientEnvironmentPostProcessor.ASYNC_REGISTRATION_FLAG)
+@ConditionalOnBean(ApplicationInfoManager.class)
+@EnableConfigurationProperties(EurekaAsyncRegistrationProperties.class)
+public class EurekaAsyncRegistrationAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public EurekaAsyncRegistration eurekaAsyncRegistration(ObjectProvider<EurekaClient> eurekaClient,
+			ApplicationInfoManager applicationInfoManager, EurekaInstanceConfig instanceConfig,
+			ObjectProvider<HealthCheckHandler> healthCheckHandler, Environment environment) {
+		return new EurekaAsyncRegistration(eurekaClient, applicationInfoManager, instanceConfig, healthCheckHandler,
+				environment);
+	}
+
+}
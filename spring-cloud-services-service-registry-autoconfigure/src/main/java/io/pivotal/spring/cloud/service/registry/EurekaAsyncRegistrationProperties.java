@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the registration with the service registry, and the
+ * initial registry fetch, run in the background once the application is ready.
+ */
+@ConfigurationProperties(prefix = "scs.starters.eureka.client.async-registration")
+public class EurekaAsyncRegistrationProperties {
+
+	/**
+	 * Whether to initialize the Eureka client, and register the instance, once the
+	 * application is ready rather than during startup.
+	 */
+	private boolean enabled;
+
+	/**
+	 * Maximum time a load-balanced lookup waits for the initial registry fetch, after
+	 * which no instances, or those of the registry snapshot if enabled, are returned.
+	 */
+	private Duration maxWait = Duration.ofSeconds(5);
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Duration getMaxWait() {
+		return this.maxWait;
+	}
+
+	public void setMaxWait(Duration maxWait) {
+		this.maxWait = maxWait;
+	}
+
+}
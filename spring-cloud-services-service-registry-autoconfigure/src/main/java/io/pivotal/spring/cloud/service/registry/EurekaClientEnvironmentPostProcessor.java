@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 the original author or authors.
+ * Copyright 2021-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,23 +15,49 @@
  */
 package io.pivotal.spring.cloud.service.registry;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.boot.EnvironmentPostProcessor;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.core.Ordered;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.MapPropertySource;
+import org.springframework.util.Assert;
 
 /**
- * An EnvironmentPostProcessor to configure the load-balancer if feature flag is enabled.
+ * An EnvironmentPostProcessor to configure the load-balancer if feature flag is enabled,
+ * to register the instance as STARTING if warm-up is enabled, to disable the full
+ * registry fetch if selective fetch is enabled, to disable the auto registration if
+ * asynchronous registration is enabled, and to spread the heartbeat and registry fetch
+ * intervals of the instances of an app if jitter is enabled.
  */
 public class EurekaClientEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
 
 	static final String ZONE_CONFIGURATION_FLAG = "scs.starters.eureka.client.zone.configuration.enabled";
 
+	static final String WARM_UP_FLAG = "scs.starters.eureka.client.warm-up.enabled";
+
+	static final String SELECTIVE_FETCH_FLAG = "scs.starters.eureka.client.selective-fetch.enabled";
+
+	static final String ASYNC_REGISTRATION_FLAG = "scs.starters.eureka.client.async-registration.enabled";
+
+	static final String JITTER_FLAG = "scs.starters.eureka.client.jitter.enabled";
+
+	static final String JITTER_FACTOR = "scs.starters.eureka.client.jitter.factor";
+
+	private static final double DEFAULT_JITTER_FACTOR = 0.1;
+
+	private static final double GOLDEN_RATIO_CONJUGATE = 0.6180339887498949;
+
+	// Interval properties of the Eureka client, in seconds, with their default values
+	private static final Map<String, Integer> JITTERED_INTERVALS = Map.of(
+			"eureka.instance.lease-renewal-interval-in-seconds", 30, "eureka.client.registry-fetch-interval-seconds",
+			30, "eureka.client.initial-instance-info-replication-interval-seconds", 40);
+
 	@Override
 	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
 		if (isEnabled(environment)) {
@@ -39,6 +65,32 @@ public class EurekaClientEnvironmentPostProcessor implements EnvironmentPostProc
 				.addFirst(new MapPropertySource("EurekaClientLoadBalancerZonePreference",
 						Map.of("spring.cloud.loadbalancer.configurations", "zone-preference")));
 		}
+		if (environment.getProperty(WARM_UP_FLAG, Boolean.class, false)) {
+			// Marked UP by EurekaWarmUpRegistration, added last so that it can be overridden
+			environment.getPropertySources()
+				.addLast(new MapPropertySource("EurekaClientWarmUp",
+						Map.of("eureka.instance.initial-status", "STARTING")));
+		}
+		if (environment.getProperty(SELECTIVE_FETCH_FLAG, Boolean.class, false)) {
+			// Instances are fetched per VIP address by SelectiveEurekaRegistry
+			environment.getPropertySources()
+				.addLast(new MapPropertySource("EurekaClientSelectiveFetch",
+						Map.of("eureka.client.fetch-registry", "false")));
+		}
+		if (environment.getProperty(ASYNC_REGISTRATION_FLAG, Boolean.class, false)) {
+			// Registered in the background by EurekaAsyncRegistration
+			environment.getPropertySources()
+				.addLast(new MapPropertySource("EurekaClientAsyncRegistration",
+						Map.of("spring.cloud.service-registry.auto-registration.enabled", "false")));
+		}
+		var instanceIndex = environment.getProperty("cf.instance.index", Integer.class);
+		if (environment.getProperty(JITTER_FLAG, Boolean.class, false) && instanceIndex != null) {
+			var factor = environment.getProperty(JITTER_FACTOR, Double.class, DEFAULT_JITTER_FACTOR);
+			Assert.isTrue(factor > 0 && factor < 1, () -> "'" + JITTER_FACTOR + "' must be between 0 and 1");
+			environment.getPropertySources()
+				.addFirst(new MapPropertySource("EurekaClientJitter",
+						jitteredIntervals(environment, instanceIndex, factor)));
+		}
 	}
 
 	/**
@@ -51,6 +103,35 @@ public class EurekaClientEnvironmentPostProcessor implements EnvironmentPostProc
 		return ConfigDataEnvironmentPostProcessor.ORDER + 1;
 	}
 
+	/**
+	 * Offsets each interval by up to the given factor, in either direction. The offset is
+	 * derived from the instance index with a golden ratio sequence, so that the offsets of
+	 * the instances of an app are evenly spread over the range whatever their number, and
+	 * stay out of phase when restarted together.
+	 * <p>
+	 * Since Eureka intervals are whole seconds, offsets are rounded to the second, which
+	 * limits the number of distinct intervals: with the default factor of 0.1 and
+	 * interval of 30 seconds, instances are spread over the 7 intervals from 27 to 33
+	 * seconds, and instances sharing an interval only differ by the time they started.
+	 * @param environment the environment holding the configured intervals, bound with
+	 * relaxed names so that {@code registryFetchIntervalSeconds} is honoured too
+	 * @param instanceIndex the CF instance index
+	 * @param factor the maximum offset, as a fraction of the interval
+	 * @return the jittered interval properties
+	 */
+	static Map<String, Object> jitteredIntervals(ConfigurableEnvironment environment, int instanceIndex,
+			double factor) {
+		var binder = Binder.get(environment);
+		var phase = (instanceIndex * GOLDEN_RATIO_CONJUGATE) % 1.0;
+		var intervals = new HashMap<String, Object>();
+		JITTERED_INTERVALS.forEach((name, defaultInterval) -> {
+			int interval = binder.bind(name, Integer.class).orElse(defaultInterval);
+			var offset = Math.round((2 * phase - 1) * factor * interval);
+			intervals.put(name, Math.max(1, interval + offset));
+		});
+		return intervals;
+	}
+
 	private boolean isEnabled(Environment environment) {
 		return environment.getProperty(ZONE_CONFIGURATION_FLAG, Boolean.class, false);
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2024 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,32 +15,34 @@
  */
 package io.pivotal.spring.cloud.service.registry;
 
-import java.util.Set;
+import java.util.List;
 
 import com.netflix.discovery.EurekaClientConfig;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.netflix.eureka.EurekaClientConfigBean;
 import org.springframework.cloud.netflix.eureka.TimeoutProperties;
 import org.springframework.cloud.netflix.eureka.config.DiscoveryClientOptionalArgsConfiguration;
-import org.springframework.cloud.netflix.eureka.http.DefaultEurekaClientHttpRequestFactorySupplier;
 import org.springframework.cloud.netflix.eureka.http.EurekaClientHttpRequestFactorySupplier;
+import org.springframework.cloud.netflix.eureka.http.EurekaClientHttpRequestFactorySupplier.RequestConfigCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
 import org.springframework.security.oauth2.core.AuthorizationGrantType;
 
 import io.pivotal.spring.cloud.oauth2.client.OAuth2AccessTokenProvider;
-import io.pivotal.spring.cloud.oauth2.client.OAuth2AuthorizedClientHttpRequestInterceptor;
 
 /**
  * @author Will Tran
  * @author Dylan Roberts
  */
 @AutoConfiguration(before = DiscoveryClientOptionalArgsConfiguration.class)
-@EnableConfigurationProperties({ EurekaClientOAuth2Properties.class, TimeoutProperties.class })
+@EnableConfigurationProperties({ EurekaClientOAuth2Properties.class, EurekaClientTransportProperties.class,
+		TimeoutProperties.class })
 @ConditionalOnClass({ EurekaClientConfig.class })
 @ConditionalOnProperty(prefix = "eureka.client.oauth2", name = { "client-id", "client-secret", "access-token-uri" })
 public class EurekaClientOAuth2AutoConfiguration {
@@ -48,7 +50,10 @@ public class EurekaClientOAuth2AutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	EurekaClientHttpRequestFactorySupplier eurekaClientOAuth2HttpRequestFactorySupplier(
-			EurekaClientOAuth2Properties eurekaClientOAuth2Properties, TimeoutProperties timeoutProperties) {
+			EurekaClientOAuth2Properties eurekaClientOAuth2Properties, TimeoutProperties timeoutProperties,
+			EurekaClientTransportProperties transportProperties,
+			ObjectProvider<RequestConfigCustomizer> requestConfigCustomizers,
+			ObjectProvider<EurekaClientConfig> eurekaClientConfig) {
 		var clientRegistration = ClientRegistration.withRegistrationId("eureka-client")
 			.clientId(eurekaClientOAuth2Properties.getClientId())
 			.clientSecret(eurekaClientOAuth2Properties.getClientSecret())
@@ -58,13 +63,17 @@ public class EurekaClientOAuth2AutoConfiguration {
 			.build();
 
 		var tokenProvider = new OAuth2AccessTokenProvider(clientRegistration);
-		var oAuth2AuthorizedClientHttpRequestInterceptor = new OAuth2AuthorizedClientHttpRequestInterceptor(
+		var pooledEurekaClientHttpRequestFactorySupplier = new PooledEurekaClientHttpRequestFactorySupplier(
+				timeoutProperties, transportProperties, requestConfigCustomizers.orderedStream().toList(),
+				() -> serviceUrls(eurekaClientConfig.getIfAvailable()));
+
+		return new EurekaClientOAuth2HttpRequestFactorySupplier(pooledEurekaClientHttpRequestFactorySupplier,
 				tokenProvider);
-		var defaultEurekaClientHttpRequestFactorySupplier = new DefaultEurekaClientHttpRequestFactorySupplier(
-				timeoutProperties, Set.of());
+	}
 
-		return new EurekaClientOAuth2HttpRequestFactorySupplier(defaultEurekaClientHttpRequestFactorySupplier,
-				oAuth2AuthorizedClientHttpRequestInterceptor);
+	private static List<String> serviceUrls(EurekaClientConfig eurekaClientConfig) {
+		return (eurekaClientConfig != null)
+				? eurekaClientConfig.getEurekaServerServiceUrls(EurekaClientConfigBean.DEFAULT_ZONE) : List.of();
 	}
 
 }
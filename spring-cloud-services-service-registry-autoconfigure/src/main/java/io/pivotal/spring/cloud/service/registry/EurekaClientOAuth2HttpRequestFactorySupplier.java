@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2024 the original author or authors.
+ * Copyright 2022-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,42 +15,58 @@
  */
 package io.pivotal.spring.cloud.service.registry;
 
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 
-import org.springframework.cloud.netflix.eureka.http.DefaultEurekaClientHttpRequestFactorySupplier;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.netflix.eureka.http.EurekaClientHttpRequestFactorySupplier;
 import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.InterceptingClientHttpRequestFactory;
 
-import io.pivotal.spring.cloud.oauth2.client.OAuth2AuthorizedClientHttpRequestInterceptor;
+import io.pivotal.spring.cloud.oauth2.client.OAuth2AccessTokenProvider;
+import io.pivotal.spring.cloud.oauth2.client.OAuth2AuthorizedClientHttpRequestFactory;
+import io.pivotal.spring.cloud.service.registry.PooledEurekaClientHttpRequestFactorySupplier.TlsSettings;
 
 /**
- * {@link EurekaClientHttpRequestFactorySupplier} implementation to add authorization
- * interceptor to the {@link ClientHttpRequestFactory}.
+ * {@link EurekaClientHttpRequestFactorySupplier} implementation to add the
+ * authorization header to the requests of the {@link ClientHttpRequestFactory}, without
+ * buffering their body. The factory is created once per {@link SSLContext} and
+ * {@link HostnameVerifier}.
  */
-public class EurekaClientOAuth2HttpRequestFactorySupplier implements EurekaClientHttpRequestFactorySupplier {
+public class EurekaClientOAuth2HttpRequestFactorySupplier
+		implements EurekaClientHttpRequestFactorySupplier, DisposableBean {
 
 	private final EurekaClientHttpRequestFactorySupplier defaultEurekaClientHttpRequestFactorySupplier;
 
-	private final OAuth2AuthorizedClientHttpRequestInterceptor oAuth2AuthorizedClientHttpRequestInterceptor;
+	private final OAuth2AccessTokenProvider tokenProvider;
+
+	private final Map<TlsSettings, ClientHttpRequestFactory> requestFactories = new ConcurrentHashMap<>();
 
 	public EurekaClientOAuth2HttpRequestFactorySupplier(
-			DefaultEurekaClientHttpRequestFactorySupplier defaultEurekaClientHttpRequestFactorySupplier,
-			OAuth2AuthorizedClientHttpRequestInterceptor oAuth2AuthorizedClientHttpRequestInterceptor) {
+			EurekaClientHttpRequestFactorySupplier defaultEurekaClientHttpRequestFactorySupplier,
+			OAuth2AccessTokenProvider tokenProvider) {
 		this.defaultEurekaClientHttpRequestFactorySupplier = defaultEurekaClientHttpRequestFactorySupplier;
-		this.oAuth2AuthorizedClientHttpRequestInterceptor = oAuth2AuthorizedClientHttpRequestInterceptor;
+		this.tokenProvider = tokenProvider;
 	}
 
 	@Override
 	public ClientHttpRequestFactory get(SSLContext sslContext, HostnameVerifier hostnameVerifier) {
-		var clientHttpRequestFactory = this.defaultEurekaClientHttpRequestFactorySupplier.get(sslContext,
-				hostnameVerifier);
+		return this.requestFactories.computeIfAbsent(new TlsSettings(sslContext, hostnameVerifier), settings -> {
+			var clientHttpRequestFactory = this.defaultEurekaClientHttpRequestFactorySupplier.get(sslContext,
+					hostnameVerifier);
+
+			return new OAuth2AuthorizedClientHttpRequestFactory(clientHttpRequestFactory, this.tokenProvider);
+		});
+	}
 
-		return new InterceptingClientHttpRequestFactory(clientHttpRequestFactory,
-				List.of(this.oAuth2AuthorizedClientHttpRequestInterceptor));
+	@Override
+	public void destroy() throws Exception {
+		this.requestFactories.clear();
+		if (this.defaultEurekaClientHttpRequestFactorySupplier instanceof DisposableBean disposable) {
+			disposable.destroy();
+		}
 	}
 
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the pooled HTTP transport used to talk to the service
+ * registry when OAuth2 is enabled.
+ */
+@ConfigurationProperties(prefix = "scs.starters.eureka.client.transport")
+public class EurekaClientTransportProperties {
+
+	/**
+	 * Maximum number of pooled connections.
+	 */
+	private int maxConnections = 200;
+
+	/**
+	 * Maximum number of pooled connections per registry server.
+	 */
+	private int maxConnectionsPerRoute = 50;
+
+	/**
+	 * How long a connection is kept alive when the server does not send a Keep-Alive
+	 * header.
+	 */
+	private Duration keepAlive = Duration.ofSeconds(60);
+
+	/**
+	 * How long a connection may stay idle in the pool before it is evicted.
+	 */
+	private Duration idleTimeout = Duration.ofSeconds(30);
+
+	/**
+	 * Whether to request compressed responses, such as gzip, and decompress them while
+	 * they are read. Apache HttpClient does so by default, setting it to false opts out.
+	 */
+	private boolean compression = true;
+
+	private final Hedging hedging = new Hedging();
+
+	public int getMaxConnections() {
+		return this.maxConnections;
+	}
+
+	public void setMaxConnections(int maxConnections) {
+		this.maxConnections = maxConnections;
+	}
+
+	public int getMaxConnectionsPerRoute() {
+		return this.maxConnectionsPerRoute;
+	}
+
+	public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+	}
+
+	public Duration getKeepAlive() {
+		return this.keepAlive;
+	}
+
+	public void setKeepAlive(Duration keepAlive) {
+		this.keepAlive = keepAlive;
+	}
+
+	public Duration getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	public void setIdleTimeout(Duration idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	public boolean isCompression() {
+		return this.compression;
+	}
+
+	public void setCompression(boolean compression) {
+		this.compression = compression;
+	}
+
+	public Hedging getHedging() {
+		return this.hedging;
+	}
+
+	public static class Hedging {
+
+		/**
+		 * Whether to send a second registry read to another registry server when the
+		 * first one is slower than usual.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Percentile of the latencies observed from a registry server past which a read
+		 * is hedged.
+		 */
+		private double percentile = 0.9;
+
+		/**
+		 * Minimum delay before a read is hedged.
+		 */
+		private Duration minDelay = Duration.ofMillis(50);
+
+		/**
+		 * Maximum delay before a read is hedged, also used until enough latencies have
+		 * been observed from a registry server.
+		 */
+		private Duration maxDelay = Duration.ofSeconds(1);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public double getPercentile() {
+			return this.percentile;
+		}
+
+		public void setPercentile(double percentile) {
+			this.percentile = percentile;
+		}
+
+		public Duration getMinDelay() {
+			return this.minDelay;
+		}
+
+		public void setMinDelay(Duration minDelay) {
+			this.minDelay = minDelay;
+		}
+
+		public Duration getMaxDelay() {
+			return this.maxDelay;
+		}
+
+		public void setMaxDelay(Duration maxDelay) {
+			this.maxDelay = maxDelay;
+		}
+
+	}
+
+}
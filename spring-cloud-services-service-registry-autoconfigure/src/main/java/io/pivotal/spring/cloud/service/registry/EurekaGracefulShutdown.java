@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.EurekaClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * {@link SmartLifecycle} marking the instance OUT_OF_SERVICE and cancelling its
+ * registration as soon as the application context starts closing, then waiting for the
+ * configured drain window, so that clients stop routing to the instance before the web
+ * server stops accepting requests.
+ * <p>
+ * The cancellation shuts the Eureka client down, which keeps serving its cached registry
+ * to the requests still made by the instance.
+ */
+public class EurekaGracefulShutdown implements SmartLifecycle {
+
+	/**
+	 * Phase of the lifecycle, stopped before the graceful shutdown of the web server,
+	 * which runs in phase {@code DEFAULT_PHASE - 1024}.
+	 */
+	public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 512;
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EurekaGracefulShutdown.class);
+
+	private final ObjectProvider<EurekaClient> eurekaClient;
+
+	private final ApplicationInfoManager applicationInfoManager;
+
+	private final ObjectProvider<EurekaAsyncRegistration> asyncRegistration;
+
+	private final EurekaGracefulShutdownProperties properties;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	public EurekaGracefulShutdown(ObjectProvider<EurekaClient> eurekaClient,
+			ApplicationInfoManager applicationInfoManager, ObjectProvider<EurekaAsyncRegistration> asyncRegistration,
+			EurekaGracefulShutdownProperties properties) {
+		this.eurekaClient = eurekaClient;
+		this.applicationInfoManager = applicationInfoManager;
+		this.asyncRegistration = asyncRegistration;
+		this.properties = properties;
+	}
+
+	@Override
+	public void start() {
+		this.running.set(true);
+	}
+
+	@Override
+	public void stop() {
+		if (!this.running.compareAndSet(true, false)) {
+			return;
+		}
+		LOGGER.info("Marking the instance OUT_OF_SERVICE and cancelling its registration");
+		this.applicationInfoManager.setInstanceStatus(InstanceStatus.OUT_OF_SERVICE);
+		if (isRegistered()) {
+			cancelRegistration();
+		}
+		drain();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running.get();
+	}
+
+	@Override
+	public int getPhase() {
+		return PHASE;
+	}
+
+	private boolean isRegistered() {
+		// Nothing is registered while the background registration is still running
+		var asyncRegistration = this.asyncRegistration.getIfAvailable();
+		return asyncRegistration == null || asyncRegistration.initialized().toCompletableFuture().isDone();
+	}
+
+	private void cancelRegistration() {
+		var eurekaClient = this.eurekaClient.getIfAvailable();
+		if (eurekaClient == null) {
+			return;
+		}
+		try {
+			eurekaClient.shutdown();
+		}
+		catch (RuntimeException ex) {
+			LOGGER.warn("Cancelling the registration failed", ex);
+		}
+	}
+
+	private void drain() {
+		var drainWindow = this.properties.getDrainWindow();
+		if (drainWindow.isZero() || drainWindow.isNegative()) {
+			return;
+		}
+		LOGGER.info("Draining requests for {} before shutting down", drainWindow);
+		try {
+			Thread.sleep(drainWindow.toMillis());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
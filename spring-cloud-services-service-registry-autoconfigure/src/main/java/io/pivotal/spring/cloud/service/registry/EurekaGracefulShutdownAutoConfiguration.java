@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.discovery.EurekaClient;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.netflix.eureka.EurekaClientAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Auto-configuration of the deregistration from the service registry on shutdown, see
+ * {@link EurekaGracefulShutdownProperties}.
+ */
+@AutoConfiguration(after = { EurekaClientAutoConfiguration.class, EurekaAsyncRegistrationAutoConfiguration.class })
+@ConditionalOnProperty("scs.starters.eureka.client.graceful-shutdown.enabled")
+@ConditionalOnBean(ApplicationInfoManager.class)
+@EnableConfigurationProperties(EurekaGracefulShutdownProperties.class)
+public class EurekaGracefulShutdownAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public EurekaGracefulShutdown eurekaGracefulShutdown(ObjectProvider<EurekaClient> eurekaClient,
+			ApplicationInfoManager applicationInfoManager, ObjectProvider<EurekaAsyncRegistration> asyncRegistration,
+			EurekaGracefulShutdownProperties properties) {
+		return new EurekaGracefulShutdown(eurekaClient, applicationInfoManager, asyncRegistration, properties);
+	}
+
+}
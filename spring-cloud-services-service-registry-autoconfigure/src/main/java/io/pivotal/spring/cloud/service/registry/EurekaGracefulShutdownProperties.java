@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the deregistration from the service registry at the start
+ * of the graceful shutdown of the application.
+ */
+@ConfigurationProperties(prefix = "scs.starters.eureka.client.graceful-shutdown")
+public class EurekaGracefulShutdownProperties {
+
+	/**
+	 * Whether to mark the instance OUT_OF_SERVICE and cancel its registration before the
+	 * web server stops accepting requests.
+	 */
+	private boolean enabled;
+
+	/**
+	 * How long requests keep being served once the registration is cancelled, while
+	 * clients refresh their view of the registry.
+	 */
+	private Duration drainWindow = Duration.ofSeconds(5);
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Duration getDrainWindow() {
+		return this.drainWindow;
+	}
+
+	public void setDrainWindow(Duration drainWindow) {
+		this.drainWindow = drainWindow;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2024 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package io.pivotal.spring.cloud.service.registry;
 
+import java.lang.management.ManagementFactory;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Map;
@@ -24,6 +25,7 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -31,7 +33,9 @@ import org.springframework.cloud.commons.util.InetUtils;
 import org.springframework.cloud.commons.util.InetUtilsProperties;
 import org.springframework.cloud.netflix.eureka.EurekaInstanceConfigBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.util.ObjectUtils;
+import org.springframework.web.reactive.function.client.ClientRequest;
 
 /**
  * Configuration class to configure a Eureka instance's settings based on the value of
@@ -60,9 +64,9 @@ public class EurekaInstanceAutoConfiguration {
 
 	private static final String DIRECT_REGISTRATION_METHOD = "direct";
 
-	private static final String INSTANCE_ID = "instanceId";
+	static final String INSTANCE_ID = "instanceId";
 
-	private static final String ZONE = "zone";
+	static final String ZONE = "zone";
 
 	@Value("${vcap.application.uris[0]:}")
 	private String hostname;
@@ -123,6 +127,14 @@ public class EurekaInstanceAutoConfiguration {
 		SanitizingEurekaInstanceConfigBean eurekaInstanceConfigBean = getDefaults();
 		eurekaInstanceConfigBean.setSecurePortEnabled(true);
 		eurekaInstanceConfigBean.setInstanceId(this.hostname + ":" + this.instanceId);
+		if (!ObjectUtils.isEmpty(this.ip) && this.port > 0) {
+			// Lets clients on the same foundation skip the router, see
+			// DirectRoutingServiceInstanceListSupplier
+			Map<String, String> metadataMap = eurekaInstanceConfigBean.getMetadataMap();
+			metadataMap.put(DirectRoutingServiceInstanceListSupplier.CF_INSTANCE_INTERNAL_IP, this.ip);
+			metadataMap.put(DirectRoutingServiceInstanceListSupplier.CF_INSTANCE_INTERNAL_PORT,
+					String.valueOf(this.port));
+		}
 		return eurekaInstanceConfigBean;
 	}
 
@@ -148,6 +160,8 @@ public class EurekaInstanceAutoConfiguration {
 		metadataMap.put(SurgicalRoutingRequestTransformer.CF_INSTANCE_INDEX, this.cfInstanceIndex);
 		metadataMap.put(INSTANCE_ID, this.instanceId);
 		metadataMap.put(ZONE, zoneFromUri(this.zoneUri));
+		metadataMap.put(SlowStartLoadBalancer.START_TIME,
+				String.valueOf(ManagementFactory.getRuntimeMXBean().getStartTime()));
 
 		return eurekaInstanceConfigBean;
 	}
@@ -181,4 +195,16 @@ public class EurekaInstanceAutoConfiguration {
 		return getRouteRegistration();
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(ClientRequest.class)
+	static class ReactiveSurgicalRoutingConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean(ReactiveSurgicalRoutingRequestTransformer.class)
+		public ReactiveSurgicalRoutingRequestTransformer reactiveSurgicalRoutingLoadBalancerRequestTransformer() {
+			return new ReactiveSurgicalRoutingRequestTransformer();
+		}
+
+	}
+
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+/**
+ * Warm-up run before the instance is marked UP in the service registry, when
+ * {@code scs.starters.eureka.client.warm-up.enabled} is set. Beans of this type are run
+ * in order, after the application is ready.
+ */
+@FunctionalInterface
+public interface EurekaInstanceWarmUp {
+
+	/**
+	 * Warms up the application, for instance by exercising its hot code paths or by
+	 * loading its caches. Should return promptly when the thread is interrupted, which
+	 * happens once the warm-up deadline has passed.
+	 * @throws Exception if the warm-up fails, the instance is marked UP regardless
+	 */
+	void warmUp() throws Exception;
+
+}
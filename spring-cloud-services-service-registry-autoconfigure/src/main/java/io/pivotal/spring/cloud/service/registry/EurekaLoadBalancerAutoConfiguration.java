@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import com.netflix.discovery.EurekaClient;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.cloud.loadbalancer.cache.LoadBalancerCacheManager;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import io.pivotal.spring.cloud.service.registry.EurekaLoadBalancerProperties.Strategy;
+
+/**
+ * Auto-configuration of the load balancing applied to instances discovered from the
+ * service registry, see {@link EurekaLoadBalancerProperties}.
+ */
+@AutoConfiguration
+@ConditionalOnClass(ServiceInstanceListSupplier.class)
+@ConditionalOnProperty(value = "spring.cloud.loadbalancer.enabled", matchIfMissing = true)
+@EnableConfigurationProperties(EurekaLoadBalancerProperties.class)
+@LoadBalancerClients(defaultConfiguration = ScsLoadBalancerClientConfiguration.class)
+public class EurekaLoadBalancerAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	@Conditional(OnServiceInstanceStatisticsCondition.class)
+	public ServiceInstanceStatistics serviceInstanceStatistics() {
+		return new ServiceInstanceStatistics();
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(value = EurekaLoadBalancerProperties.PREFIX + ".cache-invalidation.enabled",
+			matchIfMissing = true)
+	public LoadBalancerCacheInvalidator loadBalancerCacheInvalidator(ObjectProvider<EurekaClient> eurekaClient,
+			ObjectProvider<LoadBalancerCacheManager> cacheManager) {
+		return new LoadBalancerCacheInvalidator(eurekaClient, cacheManager);
+	}
+
+	/**
+	 * Matches when a feature reading the {@link ServiceInstanceStatistics} is enabled, so
+	 * that they are not kept for every request otherwise.
+	 */
+	static class OnServiceInstanceStatisticsCondition extends SpringBootCondition {
+
+		@Override
+		public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			var binder = Binder.get(context.getEnvironment());
+			var strategy = binder.bind(EurekaLoadBalancerProperties.PREFIX + ".strategy", Strategy.class)
+				.orElse(Strategy.ROUND_ROBIN);
+			if (strategy == Strategy.LEAST_IN_FLIGHT) {
+				return ConditionOutcome.match("Load balancer strategy is " + strategy);
+			}
+			for (var feature : new String[] { "outlier-ejection", "zone-preference" }) {
+				if (binder.bind(EurekaLoadBalancerProperties.PREFIX + "." + feature + ".enabled", Boolean.class)
+					.orElse(false)) {
+					return ConditionOutcome.match("Load balancer " + feature + " is enabled");
+				}
+			}
+			return ConditionOutcome.noMatch("No load balancer feature reads service instance statistics");
+		}
+
+	}
+
+}
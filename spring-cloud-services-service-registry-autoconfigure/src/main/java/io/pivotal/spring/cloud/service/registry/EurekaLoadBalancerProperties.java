@@ -0,0 +1,399 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * Configuration properties of the load balancing applied to instances discovered from
+ * the service registry.
+ */
+@ConfigurationProperties(prefix = EurekaLoadBalancerProperties.PREFIX)
+public class EurekaLoadBalancerProperties {
+
+	static final String PREFIX = "scs.starters.eureka.client.loadbalancer";
+
+	/**
+	 * Strategy used to choose among the instances of a service.
+	 */
+	private Strategy strategy = Strategy.ROUND_ROBIN;
+
+	private final DirectRouting directRouting = new DirectRouting();
+
+	private final ZonePreference zonePreference = new ZonePreference();
+
+	private final OutlierEjection outlierEjection = new OutlierEjection();
+
+	private final ConsistentHash consistentHash = new ConsistentHash();
+
+	private final SlowStart slowStart = new SlowStart();
+
+	private final CacheInvalidation cacheInvalidation = new CacheInvalidation();
+
+	public Strategy getStrategy() {
+		return this.strategy;
+	}
+
+	public void setStrategy(Strategy strategy) {
+		this.strategy = strategy;
+	}
+
+	public DirectRouting getDirectRouting() {
+		return this.directRouting;
+	}
+
+	public ZonePreference getZonePreference() {
+		return this.zonePreference;
+	}
+
+	public OutlierEjection getOutlierEjection() {
+		return this.outlierEjection;
+	}
+
+	public ConsistentHash getConsistentHash() {
+		return this.consistentHash;
+	}
+
+	public SlowStart getSlowStart() {
+		return this.slowStart;
+	}
+
+	public CacheInvalidation getCacheInvalidation() {
+		return this.cacheInvalidation;
+	}
+
+	/**
+	 * Strategies used to choose among the instances of a service.
+	 */
+	public enum Strategy {
+
+		/**
+		 * Spring Cloud LoadBalancer round-robin.
+		 */
+		ROUND_ROBIN,
+
+		/**
+		 * Fewest requests in flight out of two instances picked at random.
+		 */
+		LEAST_IN_FLIGHT,
+
+		/**
+		 * Rendezvous hashing of a key of the request, see {@link ConsistentHash}.
+		 */
+		CONSISTENT_HASH
+
+	}
+
+	/**
+	 * Direct container-to-container routing to instances registered with their route.
+	 */
+	public static class DirectRouting {
+
+		/**
+		 * Whether to call instances on their container address, when reachable, rather
+		 * than through their route.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Timeout of the connection attempt made to check that a container address is
+		 * reachable.
+		 */
+		private Duration probeTimeout = Duration.ofMillis(500);
+
+		/**
+		 * How long the outcome of a reachability check is reused before the container
+		 * address is checked again.
+		 */
+		private Duration probeInterval = Duration.ofSeconds(30);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getProbeTimeout() {
+			return this.probeTimeout;
+		}
+
+		public void setProbeTimeout(Duration probeTimeout) {
+			this.probeTimeout = probeTimeout;
+		}
+
+		public Duration getProbeInterval() {
+			return this.probeInterval;
+		}
+
+		public void setProbeInterval(Duration probeInterval) {
+			this.probeInterval = probeInterval;
+		}
+
+	}
+
+	/**
+	 * Preference for the instances in the zone of this instance, taking their latency
+	 * into account.
+	 */
+	public static class ZonePreference {
+
+		/**
+		 * Whether to prefer the instances in the zone of this instance.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Minimum number of instances in the zone of this instance below which instances
+		 * of all zones are used.
+		 */
+		private int minInstances = 1;
+
+		/**
+		 * Factor of the average latency of the instances in other zones above which the
+		 * average latency of the instances in the zone of this instance makes instances of
+		 * all zones be used.
+		 */
+		private double latencyFactor = 2.0;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMinInstances() {
+			return this.minInstances;
+		}
+
+		public void setMinInstances(int minInstances) {
+			this.minInstances = minInstances;
+		}
+
+		public double getLatencyFactor() {
+			return this.latencyFactor;
+		}
+
+		public void setLatencyFactor(double latencyFactor) {
+			this.latencyFactor = latencyFactor;
+		}
+
+	}
+
+	/**
+	 * Passive health tracking of instances, ejecting the ones which misbehave for a
+	 * while.
+	 */
+	public static class OutlierEjection {
+
+		/**
+		 * Whether to temporarily eject instances which misbehave.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Number of consecutive failed requests after which an instance is ejected.
+		 */
+		private int consecutiveFailures = 5;
+
+		/**
+		 * Exponentially weighted ratio of failed requests above which an instance is
+		 * ejected.
+		 */
+		private double errorRate = 0.5;
+
+		/**
+		 * Factor of the median latency of the instances of a service above which the
+		 * average latency of an instance gets it ejected.
+		 */
+		private double latencyFactor = 3.0;
+
+		/**
+		 * Minimum number of completed requests before an instance can be ejected because
+		 * of its error rate or latency.
+		 */
+		private int minimumRequests = 10;
+
+		/**
+		 * Duration of a first ejection, multiplied by the number of times in a row an
+		 * instance has been ejected, up to five.
+		 */
+		private Duration cooldown = Duration.ofSeconds(30);
+
+		/**
+		 * Maximum percentage of the instances of a service ejected at once.
+		 */
+		private int maxEjectionPercent = 50;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getConsecutiveFailures() {
+			return this.consecutiveFailures;
+		}
+
+		public void setConsecutiveFailures(int consecutiveFailures) {
+			this.consecutiveFailures = consecutiveFailures;
+		}
+
+		public double getErrorRate() {
+			return this.errorRate;
+		}
+
+		public void setErrorRate(double errorRate) {
+			this.errorRate = errorRate;
+		}
+
+		public double getLatencyFactor() {
+			return this.latencyFactor;
+		}
+
+		public void setLatencyFactor(double latencyFactor) {
+			this.latencyFactor = latencyFactor;
+		}
+
+		public int getMinimumRequests() {
+			return this.minimumRequests;
+		}
+
+		public void setMinimumRequests(int minimumRequests) {
+			this.minimumRequests = minimumRequests;
+		}
+
+		public Duration getCooldown() {
+			return this.cooldown;
+		}
+
+		public void setCooldown(Duration cooldown) {
+			this.cooldown = cooldown;
+		}
+
+		public int getMaxEjectionPercent() {
+			return this.maxEjectionPercent;
+		}
+
+		public void setMaxEjectionPercent(int maxEjectionPercent) {
+			this.maxEjectionPercent = maxEjectionPercent;
+		}
+
+	}
+
+	/**
+	 * Key of the request hashed onto instances by the consistent hash strategy.
+	 */
+	public static class ConsistentHash {
+
+		/**
+		 * Name of the request header holding the key.
+		 */
+		private String header;
+
+		/**
+		 * Path template, such as "/carts/{cartId}/**", whose variables make up the key
+		 * when the header is not present.
+		 */
+		private String pathTemplate;
+
+		public String getHeader() {
+			return this.header;
+		}
+
+		public void setHeader(String header) {
+			this.header = header;
+		}
+
+		public String getPathTemplate() {
+			return this.pathTemplate;
+		}
+
+		public void setPathTemplate(String pathTemplate) {
+			this.pathTemplate = pathTemplate;
+		}
+
+	}
+
+	/**
+	 * Ramp up of the traffic sent to instances which just started.
+	 */
+	public static class SlowStart {
+
+		/**
+		 * Warm-up window over which the weight of a newly started instance ramps up
+		 * linearly. Applies to the round-robin strategy, which then becomes weighted
+		 * random, and to the least-in-flight strategy.
+		 */
+		private Duration window;
+
+		/**
+		 * Weight, relative to a warmed up instance, of an instance which just started,
+		 * between 0 and 1.
+		 */
+		private double minWeight = 0.1;
+
+		public Duration getWindow() {
+			return this.window;
+		}
+
+		public void setWindow(Duration window) {
+			this.window = window;
+		}
+
+		public double getMinWeight() {
+			return this.minWeight;
+		}
+
+		public void setMinWeight(double minWeight) {
+			Assert.isTrue(minWeight >= 0 && minWeight <= 1, "Minimum weight must be between 0 and 1");
+			this.minWeight = minWeight;
+		}
+
+	}
+
+	/**
+	 * Invalidation of the service instance cache of Spring Cloud LoadBalancer on service
+	 * registry changes.
+	 */
+	public static class CacheInvalidation {
+
+		/**
+		 * Whether to evict an application from the service instance cache as soon as
+		 * its instances changed in the fetched registry, rather than waiting for the
+		 * cache TTL.
+		 */
+		private boolean enabled = true;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+}
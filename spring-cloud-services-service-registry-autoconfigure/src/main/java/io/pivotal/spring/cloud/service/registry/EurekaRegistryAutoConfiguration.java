@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import com.netflix.discovery.EurekaClient;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.netflix.eureka.EurekaClientAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Auto-configuration of the processing applied to the registry fetched by the Eureka
+ * client.
+ */
+@AutoConfiguration(after = EurekaClientAutoConfiguration.class)
+@ConditionalOnBean(EurekaClient.class)
+@EnableConfigurationProperties(EurekaRegistrySnapshotProperties.class)
+public class EurekaRegistryAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty("scs.starters.eureka.client.registry-index.enabled")
+	public EurekaRegistryIndex eurekaRegistryIndex(ObjectProvider<EurekaClient> eurekaClient) {
+		return new EurekaRegistryIndex(eurekaClient);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty("scs.starters.eureka.client.snapshot.enabled")
+	public EurekaRegistrySnapshot eurekaRegistrySnapshot(ObjectProvider<EurekaClient> eurekaClient,
+			EurekaRegistrySnapshotProperties properties, Environment environment) {
+		var path = (properties.getPath() != null) ? properties.getPath()
+				: EurekaRegistrySnapshot.defaultPath(environment.getProperty("spring.application.name", "application"));
+		return new EurekaRegistrySnapshot(eurekaClient, properties, path);
+	}
+
+}
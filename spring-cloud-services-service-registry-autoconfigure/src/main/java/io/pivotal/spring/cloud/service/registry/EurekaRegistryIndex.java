@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Applications;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Immutable secondary indexes over the registry fetched by the Eureka client, keyed by
+ * the metadata published by {@link EurekaInstanceAutoConfiguration}, so that instances
+ * can be looked up by instance id, CF app GUID and index, or zone without scanning the
+ * instances of every application.
+ * <p>
+ * The indexes are rebuilt after each registry fetch and replaced at once, readers never
+ * see a partially built index. Since rebuilding them walks the whole registry, the index
+ * is only registered when {@code scs.starters.eureka.client.registry-index.enabled} is
+ * set, for applications that look instances up through it.
+ * <p>
+ * This is an API for application code: none of the load balancing or routing support of
+ * this module looks instances up through the index, so enabling it alone changes
+ * nothing but the cost of each registry fetch.
+ */
+public class EurekaRegistryIndex implements ApplicationListener<HeartbeatEvent> {
+
+	private final ObjectProvider<EurekaClient> eurekaClient;
+
+	private volatile Indexes indexes = Indexes.EMPTY;
+
+	public EurekaRegistryIndex(ObjectProvider<EurekaClient> eurekaClient) {
+		this.eurekaClient = eurekaClient;
+	}
+
+	@Override
+	public void onApplicationEvent(HeartbeatEvent event) {
+		var applications = FetchedRegistry.applications(event, this.eurekaClient);
+		if (applications != null) {
+			this.indexes = Indexes.of(applications);
+		}
+	}
+
+	/**
+	 * Returns the instance with the given instance id.
+	 * @param instanceId the instance id, as published in the {@code instanceId} metadata
+	 * @return the instance, or {@code null} if there is none
+	 */
+	public InstanceInfo getInstance(String instanceId) {
+		return this.indexes.byInstanceId().get(instanceId);
+	}
+
+	/**
+	 * Returns the instance with the given CF app GUID and instance index, which is the
+	 * target of a surgical routing request.
+	 * @param cfAppGuid the CF app GUID
+	 * @param cfInstanceIndex the CF instance index
+	 * @return the instance, or {@code null} if there is none
+	 */
+	public InstanceInfo getInstance(String cfAppGuid, String cfInstanceIndex) {
+		return this.indexes.byAppInstance().get(appInstanceKey(cfAppGuid, cfInstanceIndex));
+	}
+
+	/**
+	 * Returns the instances of the given CF app.
+	 * @param cfAppGuid the CF app GUID
+	 * @return the instances, empty if there are none
+	 */
+	public List<InstanceInfo> getInstances(String cfAppGuid) {
+		return this.indexes.byAppGuid().getOrDefault(cfAppGuid, List.of());
+	}
+
+	/**
+	 * Returns the instances of the given application in the given zone.
+	 * @param appName the application name
+	 * @param zone the zone
+	 * @return the instances, empty if there are none
+	 */
+	public List<InstanceInfo> getInstancesInZone(String appName, String zone) {
+		return this.indexes.byAppZone().getOrDefault(appZoneKey(appName, zone), List.of());
+	}
+
+	private static String appInstanceKey(String cfAppGuid, String cfInstanceIndex) {
+		return cfAppGuid + ":" + cfInstanceIndex;
+	}
+
+	private static String appZoneKey(String appName, String zone) {
+		return appName.toUpperCase(Locale.ROOT) + ":" + zone;
+	}
+
+	private record Indexes(Map<String, InstanceInfo> byInstanceId, Map<String, InstanceInfo> byAppInstance,
+			Map<String, List<InstanceInfo>> byAppGuid, Map<String, List<InstanceInfo>> byAppZone) {
+
+		static final Indexes EMPTY = new Indexes(Map.of(), Map.of(), Map.of(), Map.of());
+
+		static Indexes of(Applications applications) {
+			var byInstanceId = new HashMap<String, InstanceInfo>();
+			var byAppInstance = new HashMap<String, InstanceInfo>();
+			var byAppGuid = new HashMap<String, List<InstanceInfo>>();
+			var byAppZone = new HashMap<String, List<InstanceInfo>>();
+			for (var application : applications.getRegisteredApplications()) {
+				for (var instance : application.getInstancesAsIsFromEureka()) {
+					var metadata = instance.getMetadata();
+					var instanceId = metadata.getOrDefault(EurekaInstanceAutoConfiguration.INSTANCE_ID,
+							instance.getInstanceId());
+					if (instanceId != null) {
+						byInstanceId.put(instanceId, instance);
+					}
+					var cfAppGuid = metadata.get(SurgicalRoutingRequestTransformer.CF_APP_GUID);
+					if (cfAppGuid != null) {
+						byAppGuid.computeIfAbsent(cfAppGuid, key -> new ArrayList<>()).add(instance);
+						var cfInstanceIndex = metadata.get(SurgicalRoutingRequestTransformer.CF_INSTANCE_INDEX);
+						if (cfInstanceIndex != null) {
+							byAppInstance.put(appInstanceKey(cfAppGuid, cfInstanceIndex), instance);
+						}
+					}
+					var zone = metadata.get(EurekaInstanceAutoConfiguration.ZONE);
+					if (zone != null) {
+						byAppZone.computeIfAbsent(appZoneKey(application.getName(), zone), key -> new ArrayList<>())
+							.add(instance);
+					}
+				}
+			}
+			return new Indexes(Map.copyOf(byInstanceId), Map.copyOf(byAppInstance), copyOf(byAppGuid),
+					copyOf(byAppZone));
+		}
+
+		private static Map<String, List<InstanceInfo>> copyOf(Map<String, List<InstanceInfo>> index) {
+			var copy = new HashMap<String, List<InstanceInfo>>(index.size());
+			index.forEach((key, instances) -> copy.put(key, List.copyOf(instances)));
+			return Map.copyOf(copy);
+		}
+
+	}
+
+}
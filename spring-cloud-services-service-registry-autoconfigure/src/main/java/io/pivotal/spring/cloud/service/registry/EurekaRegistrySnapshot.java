@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.appinfo.InstanceInfo.PortType;
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Applications;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * Local snapshot of the registry fetched by the Eureka client, written to a compact file
+ * after registry fetches, at most once per write interval, and loaded on startup.
+ * <p>
+ * The instances of the loaded snapshot are served, as long as it is not older than its
+ * maximum age and the registry has not been fetched yet, for services without live
+ * instances, so that requests can be routed right after a restart, even if the registry
+ * is unavailable. Like in the Eureka discovery client, the service id of the instances is
+ * their VIP address, which is not necessarily the name of their application.
+ */
+public class EurekaRegistrySnapshot implements ApplicationListener<HeartbeatEvent> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EurekaRegistrySnapshot.class);
+
+	private static final int MAGIC = 0x53435345;
+
+	// Instances are keyed by VIP address since version 2
+	private static final int VERSION = 2;
+
+	private final ObjectProvider<EurekaClient> eurekaClient;
+
+	private final EurekaRegistrySnapshotProperties properties;
+
+	private final Path path;
+
+	private final Snapshot loaded;
+
+	private volatile boolean fetched;
+
+	private long lastWriteMillis;
+
+	public EurekaRegistrySnapshot(ObjectProvider<EurekaClient> eurekaClient,
+			EurekaRegistrySnapshotProperties properties, Path path) {
+		this.eurekaClient = eurekaClient;
+		this.properties = properties;
+		this.path = path;
+		this.loaded = load(path);
+	}
+
+	@Override
+	public synchronized void onApplicationEvent(HeartbeatEvent event) {
+		// Heartbeats are only published once the registry has been fetched
+		this.fetched = true;
+		var now = System.currentTimeMillis();
+		if (now - this.lastWriteMillis < this.properties.getWriteInterval().toMillis()) {
+			return;
+		}
+		var applications = FetchedRegistry.applications(event, this.eurekaClient);
+		// An empty registry is not worth replacing the previous snapshot with
+		if (applications == null || applications.getRegisteredApplications().isEmpty()) {
+			return;
+		}
+		try {
+			write(this.path, new Snapshot(now, instances(applications)));
+			this.lastWriteMillis = now;
+		}
+		catch (IOException ex) {
+			LOGGER.warn("Failed to write the registry snapshot to {}", this.path, ex);
+		}
+	}
+
+	/**
+	 * Returns the instances of the given service in the snapshot loaded on startup.
+	 * @param serviceId the service id, which is the VIP address of the instances
+	 * @return the instances, empty if there are none, the snapshot is too old or the
+	 * registry has been fetched since
+	 */
+	public List<ServiceInstance> getInstances(String serviceId) {
+		if (this.loaded == null || this.fetched
+				|| System.currentTimeMillis() - this.loaded.timestamp() > this.properties.getMaxAge().toMillis()) {
+			return List.of();
+		}
+		return this.loaded.instances().getOrDefault(serviceId.toLowerCase(Locale.ROOT), List.of());
+	}
+
+	// Per application, so that applications sharing the temporary directory do not share
+	// their snapshot
+	static Path defaultPath(String applicationName) {
+		var fileName = "scs-eureka-registry-" + applicationName.replaceAll("[^A-Za-z0-9._-]", "_") + ".snapshot";
+		return Path.of(System.getProperty("java.io.tmpdir"), fileName);
+	}
+
+	private static Snapshot load(Path path) {
+		try {
+			var snapshot = read(path);
+			LOGGER.info("Loaded registry snapshot with {} services from {}", snapshot.instances().size(), path);
+			return snapshot;
+		}
+		catch (NoSuchFileException ex) {
+			return null;
+		}
+		catch (IOException ex) {
+			LOGGER.warn("Failed to read the registry snapshot from {}", path, ex);
+			return null;
+		}
+	}
+
+	// Same mapping as the Eureka discovery client, which looks instances up by VIP
+	// address, UP instances only
+	static Map<String, List<ServiceInstance>> instances(Applications applications) {
+		var instances = new HashMap<String, List<ServiceInstance>>();
+		for (var application : applications.getRegisteredApplications()) {
+			for (var instance : application.getInstancesAsIsFromEureka()) {
+				if (instance.getStatus() != InstanceStatus.UP) {
+					continue;
+				}
+				for (var vipAddress : StringUtils.commaDelimitedListToSet(instance.getVIPAddress())) {
+					var serviceId = vipAddress.trim().toLowerCase(Locale.ROOT);
+					instances.computeIfAbsent(serviceId, key -> new ArrayList<>())
+						.add(serviceInstance(serviceId, instance));
+				}
+			}
+		}
+		return instances;
+	}
+
+	private static ServiceInstance serviceInstance(String serviceId, InstanceInfo instance) {
+		var secure = instance.isPortEnabled(PortType.SECURE);
+		return new DefaultServiceInstance(instance.getId(), serviceId, instance.getHostName(),
+				secure ? instance.getSecurePort() : instance.getPort(), secure, instance.getMetadata());
+	}
+
+	// Written to a temporary file first, so that a crash never leaves a truncated snapshot
+	static void write(Path path, Snapshot snapshot) throws IOException {
+		var parent = path.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		var temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+		try {
+			try (var output = new DataOutputStream(
+					new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporary))))) {
+				output.writeInt(MAGIC);
+				output.writeInt(VERSION);
+				output.writeLong(snapshot.timestamp());
+				output.writeInt(snapshot.instances().size());
+				for (var entry : snapshot.instances().entrySet()) {
+					output.writeUTF(entry.getKey());
+					output.writeInt(entry.getValue().size());
+					for (var instance : entry.getValue()) {
+						writeInstance(output, instance);
+					}
+				}
+			}
+			Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		finally {
+			Files.deleteIfExists(temporary);
+		}
+	}
+
+	private static void writeInstance(DataOutputStream output, ServiceInstance instance) throws IOException {
+		output.writeUTF((instance.getInstanceId() != null) ? instance.getInstanceId() : "");
+		output.writeUTF(instance.getHost());
+		output.writeInt(instance.getPort());
+		output.writeBoolean(instance.isSecure());
+		var metadata = (instance.getMetadata() != null) ? instance.getMetadata() : Map.<String, String>of();
+		output.writeInt(metadata.size());
+		for (var entry : metadata.entrySet()) {
+			output.writeUTF(entry.getKey());
+			output.writeUTF((entry.getValue() != null) ? entry.getValue() : "");
+		}
+	}
+
+	static Snapshot read(Path path) throws IOException {
+		try (var input = new DataInputStream(
+				new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+			if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+				throw new IOException("Unsupported registry snapshot format");
+			}
+			var timestamp = input.readLong();
+			var serviceCount = input.readInt();
+			var instances = new HashMap<String, List<ServiceInstance>>(serviceCount);
+			for (int i = 0; i < serviceCount; i++) {
+				var serviceId = input.readUTF();
+				var instanceCount = input.readInt();
+				var serviceInstances = new ArrayList<ServiceInstance>(instanceCount);
+				for (int j = 0; j < instanceCount; j++) {
+					serviceInstances.add(readInstance(input, serviceId));
+				}
+				instances.put(serviceId, List.copyOf(serviceInstances));
+			}
+			return new Snapshot(timestamp, Map.copyOf(instances));
+		}
+	}
+
+	private static ServiceInstance readInstance(DataInputStream input, String serviceId) throws IOException {
+		var instanceId = input.readUTF();
+		var host = input.readUTF();
+		var port = input.readInt();
+		var secure = input.readBoolean();
+		var metadataCount = input.readInt();
+		var metadata = new HashMap<String, String>(metadataCount);
+		for (int i = 0; i < metadataCount; i++) {
+			metadata.put(input.readUTF(), input.readUTF());
+		}
+		return new DefaultServiceInstance(instanceId, serviceId, host, port, secure, metadata);
+	}
+
+	record Snapshot(long timestamp, Map<String, List<ServiceInstance>> instances) {
+
+	}
+
+}
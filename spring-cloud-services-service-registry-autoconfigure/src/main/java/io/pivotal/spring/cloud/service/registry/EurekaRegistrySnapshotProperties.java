@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the registry snapshot, written to a local file and used to
+ * route requests after a restart until the registry is fetched.
+ */
+@ConfigurationProperties(prefix = "scs.starters.eureka.client.snapshot")
+public class EurekaRegistrySnapshotProperties {
+
+	/**
+	 * Whether to write the fetched registry to a local snapshot, and to serve its
+	 * instances while the registry has not been fetched yet.
+	 */
+	private boolean enabled;
+
+	/**
+	 * Path of the snapshot file. Defaults to a file named after the application in the
+	 * temporary directory.
+	 */
+	private Path path;
+
+	/**
+	 * Minimum interval between two writes of the snapshot.
+	 */
+	private Duration writeInterval = Duration.ofSeconds(60);
+
+	/**
+	 * Maximum age of the snapshot, after which its instances are no longer served.
+	 */
+	private Duration maxAge = Duration.ofMinutes(5);
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Path getPath() {
+		return this.path;
+	}
+
+	public void setPath(Path path) {
+		this.path = path;
+	}
+
+	public Duration getWriteInterval() {
+		return this.writeInterval;
+	}
+
+	public void setWriteInterval(Duration writeInterval) {
+		this.writeInterval = writeInterval;
+	}
+
+	public Duration getMaxAge() {
+		return this.maxAge;
+	}
+
+	public void setMaxAge(Duration maxAge) {
+		this.maxAge = maxAge;
+	}
+
+}
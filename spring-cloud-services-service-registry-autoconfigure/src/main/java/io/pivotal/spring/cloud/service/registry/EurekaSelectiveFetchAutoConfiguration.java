@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import com.netflix.discovery.AbstractDiscoveryClientOptionalArgs;
+import com.netflix.discovery.EurekaClientConfig;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.netflix.eureka.EurekaClientAutoConfiguration;
+import org.springframework.cloud.netflix.eureka.config.DiscoveryClientOptionalArgsConfiguration;
+import org.springframework.cloud.netflix.eureka.http.EurekaClientHttpRequestFactorySupplier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+/**
+ * Auto-configuration of the selective registry fetch, see
+ * {@link EurekaSelectiveFetchProperties}. The full registry fetch of the Eureka client is
+ * disabled by {@link EurekaClientEnvironmentPostProcessor}.
+ */
+@AutoConfiguration(after = { EurekaClientAutoConfiguration.class, DiscoveryClientOptionalArgsConfiguration.class })
+@ConditionalOnProperty(EurekaClientEnvironmentPostProcessor.SELECTIVE_FETCH_FLAG)
+@ConditionalOnBean(EurekaClientConfig.class)
+@EnableConfigurationProperties(EurekaSelectiveFetchProperties.class)
+public class EurekaSelectiveFetchAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public SelectiveEurekaRegistry selectiveEurekaRegistry(EurekaClientConfig clientConfig,
+			EurekaSelectiveFetchProperties properties,
+			ObjectProvider<EurekaClientHttpRequestFactorySupplier> requestFactorySupplier,
+			ObjectProvider<AbstractDiscoveryClientOptionalArgs<?>> optionalArgs,
+			ApplicationEventPublisher eventPublisher) {
+		var supplier = requestFactorySupplier.getIfAvailable();
+		// Same TLS settings as the Eureka client, configured with eureka.client.tls
+		var args = optionalArgs.getIfAvailable();
+		var sslContext = (args != null) ? args.getSSLContext() : null;
+		var hostnameVerifier = (args != null) ? args.getHostnameVerifier() : null;
+		var requestFactory = (supplier != null) ? supplier.get(sslContext, hostnameVerifier)
+				: new JdkClientHttpRequestFactory();
+		return new SelectiveEurekaRegistry(clientConfig, properties, requestFactory, eventPublisher);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public SelectiveEurekaDiscoveryClient selectiveEurekaDiscoveryClient(SelectiveEurekaRegistry registry,
+			EurekaClientConfig clientConfig) {
+		return new SelectiveEurekaDiscoveryClient(registry, clientConfig);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public SelectiveEurekaReactiveDiscoveryClient selectiveEurekaReactiveDiscoveryClient(
+			SelectiveEurekaDiscoveryClient discoveryClient) {
+		return new SelectiveEurekaReactiveDiscoveryClient(discoveryClient);
+	}
+
+}
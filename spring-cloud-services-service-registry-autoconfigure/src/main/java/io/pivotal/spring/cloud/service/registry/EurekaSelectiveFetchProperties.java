@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the selective registry fetch, which replaces the full
+ * registry fetch of the Eureka client with per-VIP address fetches of the applications
+ * the client actually calls.
+ */
+@ConfigurationProperties(prefix = "scs.starters.eureka.client.selective-fetch")
+public class EurekaSelectiveFetchProperties {
+
+	/**
+	 * Whether to fetch only the instances of the configured or detected applications,
+	 * instead of the full registry.
+	 */
+	private boolean enabled;
+
+	/**
+	 * Service ids of the applications to fetch from the start, which are the VIP
+	 * addresses their instances are registered under.
+	 */
+	private Set<String> applications = new LinkedHashSet<>();
+
+	/**
+	 * Whether to start fetching an application the first time its instances are looked
+	 * up.
+	 */
+	private boolean autoDetect = true;
+
+	/**
+	 * Interval between two fetches of each VIP address.
+	 */
+	private Duration refreshInterval = Duration.ofSeconds(30);
+
+	/**
+	 * How long a detected application is kept up to date without being looked up.
+	 */
+	private Duration idleTimeout = Duration.ofMinutes(10);
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Set<String> getApplications() {
+		return this.applications;
+	}
+
+	public void setApplications(Set<String> applications) {
+		this.applications = applications;
+	}
+
+	public boolean isAutoDetect() {
+		return this.autoDetect;
+	}
+
+	public void setAutoDetect(boolean autoDetect) {
+		this.autoDetect = autoDetect;
+	}
+
+	public Duration getRefreshInterval() {
+		return this.refreshInterval;
+	}
+
+	public void setRefreshInterval(Duration refreshInterval) {
+		this.refreshInterval = refreshInterval;
+	}
+
+	public Duration getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	public void setIdleTimeout(Duration idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+}
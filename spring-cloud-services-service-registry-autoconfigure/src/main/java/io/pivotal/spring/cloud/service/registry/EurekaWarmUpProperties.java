@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the warm-up run before the instance is marked UP in the
+ * service registry.
+ */
+@ConfigurationProperties(prefix = "scs.starters.eureka.client.warm-up")
+public class EurekaWarmUpProperties {
+
+	/**
+	 * Whether to register the instance as STARTING and mark it UP once warmed up.
+	 */
+	private boolean enabled;
+
+	/**
+	 * Maximum duration of the warm-up, after which the instance is marked UP anyway.
+	 */
+	private Duration deadline = Duration.ofSeconds(60);
+
+	/**
+	 * Paths of the application requested with GET to warm it up, such as
+	 * "/api/products".
+	 */
+	private List<String> paths = new ArrayList<>();
+
+	/**
+	 * Number of times each path is requested.
+	 */
+	private int iterations = 20;
+
+	/**
+	 * Timeout of each warm-up request.
+	 */
+	private Duration requestTimeout = Duration.ofSeconds(5);
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Duration getDeadline() {
+		return this.deadline;
+	}
+
+	public void setDeadline(Duration deadline) {
+		this.deadline = deadline;
+	}
+
+	public List<String> getPaths() {
+		return this.paths;
+	}
+
+	public void setPaths(List<String> paths) {
+		this.paths = paths;
+	}
+
+	public int getIterations() {
+		return this.iterations;
+	}
+
+	public void setIterations(int iterations) {
+		this.iterations = iterations;
+	}
+
+	public Duration getRequestTimeout() {
+		return this.requestTimeout;
+	}
+
+	public void setRequestTimeout(Duration requestTimeout) {
+		this.requestTimeout = requestTimeout;
+	}
+
+}
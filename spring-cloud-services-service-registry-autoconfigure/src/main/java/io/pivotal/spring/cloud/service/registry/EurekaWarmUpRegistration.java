@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * Runs the {@link EurekaInstanceWarmUp} beans and the configured warm-up requests once
+ * the application is ready, then marks the instance, registered as STARTING, UP in the
+ * service registry. The instance is marked UP once the deadline has passed, even if the
+ * warm-up is not over.
+ */
+public class EurekaWarmUpRegistration implements ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EurekaWarmUpRegistration.class);
+
+	private final ApplicationInfoManager applicationInfoManager;
+
+	private final EurekaWarmUpProperties properties;
+
+	private final List<EurekaInstanceWarmUp> warmUps;
+
+	private final Environment environment;
+
+	private final AtomicBoolean started = new AtomicBoolean();
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		var thread = new Thread(runnable, "eureka-warm-up");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public EurekaWarmUpRegistration(ApplicationInfoManager applicationInfoManager, EurekaWarmUpProperties properties,
+			List<EurekaInstanceWarmUp> warmUps, Environment environment) {
+		this.applicationInfoManager = applicationInfoManager;
+		this.properties = properties;
+		this.warmUps = warmUps;
+		this.environment = environment;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		if (this.started.compareAndSet(false, true)) {
+			start();
+		}
+	}
+
+	CompletableFuture<Void> start() {
+		LOGGER.info("Warming up before marking the instance UP, for at most {}", this.properties.getDeadline());
+		var start = System.nanoTime();
+		return CompletableFuture.runAsync(this::warmUp, this.executor)
+			.orTimeout(this.properties.getDeadline().toMillis(), TimeUnit.MILLISECONDS)
+			.handle((result, ex) -> {
+				if (ex instanceof TimeoutException) {
+					LOGGER.warn("Warm-up did not complete within {}", this.properties.getDeadline());
+				}
+				else if (ex != null) {
+					LOGGER.warn("Warm-up failed", ex);
+				}
+				else {
+					LOGGER.info("Warm-up completed in {} ms",
+							TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+				}
+				this.executor.shutdownNow();
+				markUp();
+				return null;
+			});
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+	private void warmUp() {
+		for (var warmUp : this.warmUps) {
+			if (Thread.currentThread().isInterrupted()) {
+				return;
+			}
+			try {
+				warmUp.warmUp();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (Exception ex) {
+				LOGGER.warn("Warm-up {} failed", warmUp, ex);
+			}
+		}
+		requestPaths();
+	}
+
+	private void requestPaths() {
+		var port = this.environment.getProperty("local.server.port", Integer.class);
+		if (this.properties.getPaths().isEmpty() || port == null) {
+			return;
+		}
+		var client = HttpClient.newBuilder().connectTimeout(this.properties.getRequestTimeout()).build();
+		for (int i = 0; i < this.properties.getIterations(); i++) {
+			for (var path : this.properties.getPaths()) {
+				var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+					.timeout(this.properties.getRequestTimeout())
+					.GET()
+					.build();
+				try {
+					client.send(request, HttpResponse.BodyHandlers.discarding());
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				catch (IOException ex) {
+					LOGGER.debug("Warm-up request to {} failed", path, ex);
+				}
+			}
+		}
+	}
+
+	private void markUp() {
+		// Leave alone a status changed in the meantime, such as OUT_OF_SERVICE
+		if (this.applicationInfoManager.getInfo().getStatus() == InstanceStatus.STARTING) {
+			LOGGER.info("Marking the instance UP");
+			this.applicationInfoManager.setInstanceStatus(InstanceStatus.UP);
+		}
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Applications;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+
+/**
+ * Resolves the registry a {@link HeartbeatEvent} was published for: the applications
+ * tracked by the {@link SelectiveEurekaRegistry} which published it when selective fetch
+ * is enabled, and the registry fetched by the Eureka client otherwise.
+ */
+final class FetchedRegistry {
+
+	private FetchedRegistry() {
+	}
+
+	static Applications applications(HeartbeatEvent event, ObjectProvider<EurekaClient> eurekaClient) {
+		if (event.getSource() instanceof SelectiveEurekaRegistry registry) {
+			return registry.getApplications();
+		}
+		var client = eurekaClient.getIfAvailable();
+		return (client != null) ? client.getApplications() : null;
+	}
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * {@link ClientHttpRequestFactory} hedging the reads sent to one of the registry servers
+ * listed in {@code eureka.client.service-url}: when the server does not respond within
+ * the configured percentile of the latencies observed from it, the same read is sent to
+ * the other server with the lowest observed latency, and the first response is used.
+ * <p>
+ * Writes, such as registrations and heartbeats, are sent as is to the server chosen by
+ * the Eureka client, which replicates them to its peers.
+ */
+public class HedgingClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(HedgingClientHttpRequestFactory.class);
+
+	// Number of latencies kept per server, and needed before its percentile is used
+	private static final int SAMPLES = 64;
+
+	private static final int MINIMUM_SAMPLES = 10;
+
+	// Weight of the latest request in the average latency used to rank the peers
+	private static final double ALPHA = 0.3;
+
+	private final ClientHttpRequestFactory delegate;
+
+	private final Supplier<List<String>> serviceUrls;
+
+	private final EurekaClientTransportProperties.Hedging properties;
+
+	private final Executor executor;
+
+	private final Map<String, PeerLatencies> latencies = new ConcurrentHashMap<>();
+
+	public HedgingClientHttpRequestFactory(ClientHttpRequestFactory delegate, Supplier<List<String>> serviceUrls,
+			EurekaClientTransportProperties.Hedging properties, Executor executor) {
+		this.delegate = delegate;
+		this.serviceUrls = serviceUrls;
+		this.properties = properties;
+		this.executor = executor;
+	}
+
+	@Override
+	public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+		if (httpMethod == HttpMethod.GET) {
+			var peers = peers();
+			if (peers.size() > 1) {
+				var target = uri.toString();
+				for (var peer : peers) {
+					if (target.startsWith(peer)) {
+						return new HedgedClientHttpRequest(uri, peer, peers);
+					}
+				}
+			}
+		}
+		return this.delegate.createRequest(uri, httpMethod);
+	}
+
+	/**
+	 * Returns how long a read sent to the given server is awaited before being hedged.
+	 * @param peer the URL of the registry server
+	 * @return the delay in nanoseconds
+	 */
+	long hedgeDelay(String peer) {
+		var minDelay = this.properties.getMinDelay().toNanos();
+		var maxDelay = this.properties.getMaxDelay().toNanos();
+		var peerLatencies = this.latencies.get(peer);
+		var percentile = (peerLatencies != null) ? peerLatencies.percentile(this.properties.getPercentile()) : -1;
+		return (percentile < 0) ? maxDelay : Math.min(Math.max(percentile, minDelay), maxDelay);
+	}
+
+	/**
+	 * Returns the registry server, other than the given one, with the lowest observed
+	 * latency. Servers without observed latencies come first, so that they get probed.
+	 * @param peer the URL of the registry server the read was sent to
+	 * @param peers the URLs of the registry servers
+	 * @return the URL of the server to hedge the read to
+	 */
+	String hedgePeer(String peer, List<String> peers) {
+		String best = null;
+		var bestLatency = Double.MAX_VALUE;
+		for (var candidate : peers) {
+			if (candidate.equals(peer)) {
+				continue;
+			}
+			var peerLatencies = this.latencies.get(candidate);
+			var latency = (peerLatencies != null) ? peerLatencies.average() : 0;
+			if (latency < bestLatency) {
+				best = candidate;
+				bestLatency = latency;
+			}
+		}
+		return best;
+	}
+
+	void record(String peer, long latency) {
+		this.latencies.computeIfAbsent(peer, key -> new PeerLatencies()).record(latency);
+	}
+
+	private List<String> peers() {
+		var serviceUrls = this.serviceUrls.get();
+		if (serviceUrls == null) {
+			return List.of();
+		}
+		// User info is dropped from the URLs the Eureka client sends requests to
+		return serviceUrls.stream()
+			.map(serviceUrl -> UriComponentsBuilder.fromUriString(serviceUrl).userInfo(null).build().toUriString())
+			.map(serviceUrl -> serviceUrl.endsWith("/") ? serviceUrl : serviceUrl + "/")
+			.distinct()
+			.toList();
+	}
+
+	private final class HedgedClientHttpRequest extends AbstractClientHttpRequest {
+
+		private final URI uri;
+
+		private final String peer;
+
+		private final List<String> peers;
+
+		HedgedClientHttpRequest(URI uri, String peer, List<String> peers) {
+			this.uri = uri;
+			this.peer = peer;
+			this.peers = peers;
+		}
+
+		@Override
+		public HttpMethod getMethod() {
+			return HttpMethod.GET;
+		}
+
+		@Override
+		public URI getURI() {
+			return this.uri;
+		}
+
+		@Override
+		protected OutputStream getBodyInternal(HttpHeaders headers) {
+			return OutputStream.nullOutputStream();
+		}
+
+		@Override
+		protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+			var result = new CompletableFuture<ClientHttpResponse>();
+			// Number of attempts in flight, the read fails once none is left
+			var pending = new AtomicInteger(1);
+			send(this.uri, this.peer, headers, result, pending);
+			var response = await(result, hedgeDelay(this.peer));
+			if (response != null) {
+				return response;
+			}
+			var hedgePeer = hedgePeer(this.peer, this.peers);
+			// The read is not hedged once the first attempt has failed
+			if (hedgePeer != null && pending.incrementAndGet() > 1) {
+				LOGGER.debug("No response from {} yet, hedging the read to {}", this.peer, hedgePeer);
+				var hedgeUri = URI.create(hedgePeer + this.uri.toString().substring(this.peer.length()));
+				send(hedgeUri, hedgePeer, headers, result, pending);
+			}
+			return await(result, Long.MAX_VALUE);
+		}
+
+		private void send(URI uri, String peer, HttpHeaders headers, CompletableFuture<ClientHttpResponse> result,
+				AtomicInteger pending) {
+			HedgingClientHttpRequestFactory.this.executor.execute(() -> {
+				var start = System.nanoTime();
+				try {
+					var request = HedgingClientHttpRequestFactory.this.delegate.createRequest(uri, HttpMethod.GET);
+					request.getHeaders().putAll(headers);
+					var response = request.execute();
+					record(peer, System.nanoTime() - start);
+					// The slower response is not used, and its connection is released
+					if (!result.complete(response)) {
+						response.close();
+					}
+				}
+				catch (IOException | RuntimeException ex) {
+					record(peer, HedgingClientHttpRequestFactory.this.properties.getMaxDelay().toNanos());
+					if (pending.decrementAndGet() == 0) {
+						result.completeExceptionally(ex);
+					}
+				}
+			});
+		}
+
+		private ClientHttpResponse await(CompletableFuture<ClientHttpResponse> result, long timeout)
+				throws IOException {
+			try {
+				return result.get(timeout, TimeUnit.NANOSECONDS);
+			}
+			catch (TimeoutException ex) {
+				return null;
+			}
+			catch (ExecutionException ex) {
+				if (ex.getCause() instanceof IOException cause) {
+					throw cause;
+				}
+				if (ex.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw new IOException(ex.getCause());
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				result.cancel(false);
+				throw new InterruptedIOException("Interrupted while awaiting the response of " + this.uri);
+			}
+		}
+
+	}
+
+	private static final class PeerLatencies {
+
+		private final long[] samples = new long[SAMPLES];
+
+		private int count;
+
+		private double average = -1;
+
+		synchronized void record(long latency) {
+			this.samples[this.count++ % SAMPLES] = latency;
+			this.average = (this.average < 0) ? latency : ALPHA * latency + (1 - ALPHA) * this.average;
+		}
+
+		synchronized double average() {
+			return this.average;
+		}
+
+		synchronized long percentile(double percentile) {
+			if (this.count < MINIMUM_SAMPLES) {
+				return -1;
+			}
+			var sorted = Arrays.copyOf(this.samples, Math.min(this.count, SAMPLES));
+			Arrays.sort(sorted);
+			var index = (int) Math.ceil(percentile * sorted.length) - 1;
+			return sorted[Math.min(Math.max(index, 0), sorted.length - 1)];
+		}
+
+	}
+
+}
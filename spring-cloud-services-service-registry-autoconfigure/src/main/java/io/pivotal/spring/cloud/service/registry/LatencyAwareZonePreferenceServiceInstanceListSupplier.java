@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.loadbalancer.config.LoadBalancerZoneConfig;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+/**
+ * {@link ServiceInstanceListSupplier} preferring the instances in the zone of this
+ * instance, as published in metadata by {@link EurekaInstanceAutoConfiguration}, unless
+ * there are too few of them, or their average latency, as observed by this client, is
+ * more than a given factor of the average latency of the instances in other zones. In
+ * those cases, instances of all zones are returned.
+ */
+public class LatencyAwareZonePreferenceServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+	private final LoadBalancerZoneConfig zoneConfig;
+
+	private final ServiceInstanceStatistics statistics;
+
+	private final int minInstances;
+
+	private final double latencyFactor;
+
+	public LatencyAwareZonePreferenceServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
+			LoadBalancerZoneConfig zoneConfig, ServiceInstanceStatistics statistics, int minInstances,
+			double latencyFactor) {
+		super(delegate);
+		this.zoneConfig = zoneConfig;
+		this.statistics = statistics;
+		this.minInstances = minInstances;
+		this.latencyFactor = latencyFactor;
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get() {
+		return this.delegate.get().map(this::filteredByZone);
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get(Request request) {
+		return this.delegate.get(request).map(this::filteredByZone);
+	}
+
+	private List<ServiceInstance> filteredByZone(List<ServiceInstance> instances) {
+		var zone = this.zoneConfig.getZone();
+		if (zone == null) {
+			return instances;
+		}
+		var local = new ArrayList<ServiceInstance>();
+		var remote = new ArrayList<ServiceInstance>();
+		for (var instance : instances) {
+			var metadata = instance.getMetadata();
+			var instanceZone = (metadata != null) ? metadata.get(EurekaInstanceAutoConfiguration.ZONE) : null;
+			if (zone.equalsIgnoreCase(instanceZone)) {
+				local.add(instance);
+			}
+			else {
+				remote.add(instance);
+			}
+		}
+		if (remote.isEmpty() || local.size() < this.minInstances || isSlow(local, remote)) {
+			return instances;
+		}
+		return local;
+	}
+
+	private boolean isSlow(List<ServiceInstance> local, List<ServiceInstance> remote) {
+		var localLatency = averageLatency(local);
+		var remoteLatency = averageLatency(remote);
+		// Without samples on both sides, the local zone is given the benefit of the doubt
+		return localLatency >= 0 && remoteLatency >= 0 && localLatency > this.latencyFactor * remoteLatency;
+	}
+
+	private double averageLatency(List<ServiceInstance> instances) {
+		var total = 0d;
+		var count = 0;
+		for (var instance : instances) {
+			var latency = this.statistics.getAverageLatency(instance);
+			if (latency >= 0) {
+				total += latency;
+				count++;
+			}
+		}
+		return (count > 0) ? total / count : -1;
+	}
+
+}
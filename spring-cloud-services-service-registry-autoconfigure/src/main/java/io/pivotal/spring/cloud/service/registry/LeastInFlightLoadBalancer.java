@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+/**
+ * {@link ReactorServiceInstanceLoadBalancer} picking two instances at random and choosing
+ * the one with the fewest load-balanced requests in flight, as tracked by
+ * {@link ServiceInstanceStatistics}. Given a warm-up window, the requests in flight to
+ * instances still warming up count for more, see {@link SlowStartLoadBalancer}.
+ */
+public class LeastInFlightLoadBalancer extends AbstractServiceInstanceLoadBalancer {
+
+	private final ServiceInstanceStatistics statistics;
+
+	private final Duration slowStartWindow;
+
+	private final double slowStartMinWeight;
+
+	public LeastInFlightLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+			String serviceId, ServiceInstanceStatistics statistics) {
+		this(serviceInstanceListSupplierProvider, serviceId, statistics, null, 1);
+	}
+
+	public LeastInFlightLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+			String serviceId, ServiceInstanceStatistics statistics, Duration slowStartWindow,
+			double slowStartMinWeight) {
+		super(serviceInstanceListSupplierProvider, serviceId);
+		this.statistics = statistics;
+		this.slowStartWindow = slowStartWindow;
+		this.slowStartMinWeight = slowStartMinWeight;
+	}
+
+	@Override
+	protected ServiceInstance chooseInstance(List<ServiceInstance> instances, Request<?> request) {
+		if (instances.size() == 1) {
+			return instances.get(0);
+		}
+
+		var random = ThreadLocalRandom.current();
+		var first = random.nextInt(instances.size());
+		var second = random.nextInt(instances.size() - 1);
+		if (second >= first) {
+			second++;
+		}
+		var candidate = instances.get(first);
+		var other = instances.get(second);
+		if (this.slowStartWindow == null) {
+			if (this.statistics.getInFlightRequests(other) < this.statistics.getInFlightRequests(candidate)) {
+				candidate = other;
+			}
+		}
+		else {
+			var now = System.currentTimeMillis();
+			if (load(other, now) < load(candidate, now)) {
+				candidate = other;
+			}
+		}
+		return candidate;
+	}
+
+	// Requests in flight, including the one to be made, scaled up while warming up
+	private double load(ServiceInstance instance, long now) {
+		return (this.statistics.getInFlightRequests(instance) + 1)
+				/ SlowStartLoadBalancer.warmUpWeight(instance, this.slowStartWindow, this.slowStartMinWeight, now);
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.loadbalancer.cache.LoadBalancerCacheManager;
+import org.springframework.cloud.loadbalancer.core.CachingServiceInstanceListSupplier;
+import org.springframework.context.ApplicationListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * Evicts an application from the service instance cache of Spring Cloud LoadBalancer as
+ * soon as the Eureka client fetched a registry where instances of that application were
+ * added, removed or changed status, so that a long cache TTL does not keep load balancer
+ * clients routing to stale instances. The cache of the other applications is kept.
+ * <p>
+ * Applications are cached under the service ID used by clients, which is either the
+ * lower case application name or one of the VIP addresses of its instances, so all of
+ * them are evicted.
+ */
+public class LoadBalancerCacheInvalidator implements ApplicationListener<HeartbeatEvent> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LoadBalancerCacheInvalidator.class);
+
+	private final ObjectProvider<EurekaClient> eurekaClient;
+
+	private final ObjectProvider<LoadBalancerCacheManager> cacheManager;
+
+	private Map<String, CachedApplication> applications = Map.of();
+
+	public LoadBalancerCacheInvalidator(ObjectProvider<EurekaClient> eurekaClient,
+			ObjectProvider<LoadBalancerCacheManager> cacheManager) {
+		this.eurekaClient = eurekaClient;
+		this.cacheManager = cacheManager;
+	}
+
+	@Override
+	public void onApplicationEvent(HeartbeatEvent event) {
+		var applications = FetchedRegistry.applications(event, this.eurekaClient);
+		if (applications != null) {
+			invalidate(applications);
+		}
+	}
+
+	synchronized void invalidate(Applications applications) {
+		var previous = this.applications;
+		var current = new HashMap<String, CachedApplication>();
+		var serviceIds = new HashSet<String>();
+		for (var application : applications.getRegisteredApplications()) {
+			var cached = previous.get(application.getName());
+			var signature = signature(application);
+			if (cached == null || cached.signature() != signature) {
+				// The service IDs of the removed instances are evicted too
+				if (cached != null) {
+					serviceIds.addAll(cached.serviceIds());
+				}
+				cached = new CachedApplication(signature, serviceIds(application));
+				serviceIds.addAll(cached.serviceIds());
+			}
+			current.put(application.getName(), cached);
+		}
+		previous.forEach((name, cached) -> {
+			if (!current.containsKey(name)) {
+				serviceIds.addAll(cached.serviceIds());
+			}
+		});
+		this.applications = current;
+		if (serviceIds.isEmpty()) {
+			return;
+		}
+
+		var cacheManager = this.cacheManager.getIfAvailable();
+		var cache = (cacheManager != null)
+				? cacheManager.getCache(CachingServiceInstanceListSupplier.SERVICE_INSTANCE_CACHE_NAME) : null;
+		if (cache != null) {
+			LOGGER.debug("Instances of {} changed, evicting them from the load balancer cache", serviceIds);
+			serviceIds.forEach(cache::evict);
+		}
+	}
+
+	private static Set<String> serviceIds(Application application) {
+		var serviceIds = new HashSet<String>();
+		serviceIds.add(application.getName().toLowerCase(Locale.ROOT));
+		for (var instance : application.getInstancesAsIsFromEureka()) {
+			serviceIds.addAll(StringUtils.commaDelimitedListToSet(instance.getVIPAddress()));
+			serviceIds.addAll(StringUtils.commaDelimitedListToSet(instance.getSecureVipAddress()));
+		}
+		return serviceIds;
+	}
+
+	// Independent of the order of instances
+	static long signature(Application application) {
+		var signature = 0L;
+		for (var instance : application.getInstancesAsIsFromEureka()) {
+			var hash = Objects.hash(application.getName(), instance.getId(), instance.getStatus(),
+					instance.getHostName(), instance.getPort(), instance.getSecurePort());
+			signature += hash * 0x9e3779b97f4a7c15L;
+		}
+		return signature;
+	}
+
+	private record CachedApplication(long signature, Set<String> serviceIds) {
+
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import io.pivotal.spring.cloud.service.registry.EurekaLoadBalancerProperties.OutlierEjection;
+import io.pivotal.spring.cloud.service.registry.ServiceInstanceStatistics.InstanceHealth;
+
+/**
+ * {@link ServiceInstanceListSupplier} temporarily ejecting the instances which, as
+ * observed by this client, failed too many requests in a row, have a too high error rate
+ * or a latency too far above the median latency of the other instances. Ejected instances
+ * are re-admitted once their cooldown has elapsed.
+ * <p>
+ * No more than the configured share of instances is ejected at once, so that a service
+ * wide outage does not leave the client without instances.
+ */
+public class OutlierEjectionServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(OutlierEjectionServiceInstanceListSupplier.class);
+
+	// Minimum number of instances with a known latency to look for latency outliers
+	private static final int MIN_LATENCY_SAMPLES = 3;
+
+	private final ServiceInstanceStatistics statistics;
+
+	private final OutlierEjection outlierEjection;
+
+	public OutlierEjectionServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
+			ServiceInstanceStatistics statistics, OutlierEjection outlierEjection) {
+		super(delegate);
+		this.statistics = statistics;
+		this.outlierEjection = outlierEjection;
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get() {
+		return this.delegate.get().map(this::withoutOutliers);
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get(Request request) {
+		return this.delegate.get(request).map(this::withoutOutliers);
+	}
+
+	private List<ServiceInstance> withoutOutliers(List<ServiceInstance> instances) {
+		var maxEjected = instances.size() * this.outlierEjection.getMaxEjectionPercent() / 100;
+		if (maxEjected == 0) {
+			return instances;
+		}
+		var health = new InstanceHealth[instances.size()];
+		for (int i = 0; i < instances.size(); i++) {
+			health[i] = this.statistics.getHealth(instances.get(i));
+		}
+		var medianLatency = medianLatency(health);
+
+		var ejected = 0;
+		var available = new ArrayList<ServiceInstance>(instances.size());
+		for (int i = 0; i < instances.size(); i++) {
+			var instance = instances.get(i);
+			if (ejected < maxEjected && health[i].ejected()) {
+				ejected++;
+			}
+			else if (ejected < maxEjected && isOutlier(health[i], medianLatency)) {
+				LOGGER.info("Ejecting outlier instance {} of service {}: {}", instance.getInstanceId(),
+						instance.getServiceId(), health[i]);
+				this.statistics.eject(instance, this.outlierEjection.getCooldown());
+				ejected++;
+			}
+			else {
+				available.add(instance);
+			}
+		}
+		return (ejected > 0) ? available : instances;
+	}
+
+	private boolean isOutlier(InstanceHealth health, double medianLatency) {
+		if (health.consecutiveFailures() >= this.outlierEjection.getConsecutiveFailures()) {
+			return true;
+		}
+		if (health.completedRequests() < this.outlierEjection.getMinimumRequests()) {
+			return false;
+		}
+		return health.errorRate() >= this.outlierEjection.getErrorRate() || (medianLatency > 0
+				&& health.averageLatency() > this.outlierEjection.getLatencyFactor() * medianLatency);
+	}
+
+	private static double medianLatency(InstanceHealth[] health) {
+		var latencies = Arrays.stream(health)
+			.filter(instanceHealth -> !instanceHealth.ejected() && instanceHealth.averageLatency() >= 0)
+			.mapToDouble(InstanceHealth::averageLatency)
+			.sorted()
+			.toArray();
+		return (latencies.length >= MIN_LATENCY_SAMPLES) ? latencies[latencies.length / 2] : -1;
+	}
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.netflix.eureka.TimeoutProperties;
+import org.springframework.cloud.netflix.eureka.http.EurekaClientHttpRequestFactorySupplier;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * {@link EurekaClientHttpRequestFactorySupplier} backed by a pooled Apache HttpClient,
+ * configured from {@link TimeoutProperties} and {@link EurekaClientTransportProperties}.
+ * <p>
+ * One client is created per {@link SSLContext} and {@link HostnameVerifier}, and reused
+ * by every call, so that heartbeats and registry fetches run over warm connections.
+ * {@link RequestConfigCustomizer RequestConfigCustomizers} are applied to the default
+ * request configuration of each client.
+ * <p>
+ * Like by default in Apache HttpClient, compressed responses are requested and
+ * decompressed while they are read, which cuts the size of full registry fetches by an
+ * order of magnitude, unless it is disabled.
+ * <p>
+ * When hedging is enabled, reads are hedged across the registry servers listed in
+ * {@code eureka.client.service-url} by a {@link HedgingClientHttpRequestFactory}.
+ */
+public class PooledEurekaClientHttpRequestFactorySupplier
+		implements EurekaClientHttpRequestFactorySupplier, DisposableBean {
+
+	private final TimeoutProperties timeoutProperties;
+
+	private final EurekaClientTransportProperties transportProperties;
+
+	private final List<RequestConfigCustomizer> requestConfigCustomizers;
+
+	private final Supplier<List<String>> serviceUrls;
+
+	private final ExecutorService hedgingExecutor;
+
+	private final Map<TlsSettings, CloseableHttpClient> clients = new ConcurrentHashMap<>();
+
+	private final Map<TlsSettings, ClientHttpRequestFactory> requestFactories = new ConcurrentHashMap<>();
+
+	public PooledEurekaClientHttpRequestFactorySupplier(TimeoutProperties timeoutProperties,
+			EurekaClientTransportProperties transportProperties,
+			List<RequestConfigCustomizer> requestConfigCustomizers) {
+		this(timeoutProperties, transportProperties, requestConfigCustomizers, List::of);
+	}
+
+	public PooledEurekaClientHttpRequestFactorySupplier(TimeoutProperties timeoutProperties,
+			EurekaClientTransportProperties transportProperties, List<RequestConfigCustomizer> requestConfigCustomizers,
+			Supplier<List<String>> serviceUrls) {
+		this.timeoutProperties = timeoutProperties;
+		this.transportProperties = transportProperties;
+		this.requestConfigCustomizers = List.copyOf(requestConfigCustomizers);
+		this.serviceUrls = serviceUrls;
+		this.hedgingExecutor = transportProperties.getHedging().isEnabled() ? createHedgingExecutor() : null;
+	}
+
+	@Override
+	public ClientHttpRequestFactory get(SSLContext sslContext, HostnameVerifier hostnameVerifier) {
+		return this.requestFactories.computeIfAbsent(new TlsSettings(sslContext, hostnameVerifier), settings -> {
+			var requestFactory = new HttpComponentsClientHttpRequestFactory(
+					this.clients.computeIfAbsent(settings, this::createHttpClient));
+			if (this.hedgingExecutor == null) {
+				return requestFactory;
+			}
+			return new HedgingClientHttpRequestFactory(requestFactory, this.serviceUrls,
+					this.transportProperties.getHedging(), this.hedgingExecutor);
+		});
+	}
+
+	@Override
+	public void destroy() {
+		if (this.hedgingExecutor != null) {
+			this.hedgingExecutor.shutdownNow();
+		}
+		this.requestFactories.clear();
+		this.clients.values().forEach(client -> client.close(CloseMode.GRACEFUL));
+		this.clients.clear();
+	}
+
+	private CloseableHttpClient createHttpClient(TlsSettings settings) {
+		var tlsStrategy = ClientTlsStrategyBuilder.create();
+		if (settings.sslContext() != null) {
+			tlsStrategy.setSslContext(settings.sslContext());
+		}
+		if (settings.hostnameVerifier() != null) {
+			tlsStrategy.setHostnameVerifier(settings.hostnameVerifier());
+		}
+		var connectionConfig = ConnectionConfig.custom()
+			.setConnectTimeout(Timeout.of(this.timeoutProperties.getConnectTimeout(), TimeUnit.MILLISECONDS))
+			.setSocketTimeout(Timeout.of(this.timeoutProperties.getSocketTimeout(), TimeUnit.MILLISECONDS))
+			.build();
+		var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setTlsSocketStrategy(tlsStrategy.buildClassic())
+			.setDefaultConnectionConfig(connectionConfig)
+			.setMaxConnTotal(this.transportProperties.getMaxConnections())
+			.setMaxConnPerRoute(this.transportProperties.getMaxConnectionsPerRoute())
+			.build();
+
+		var requestConfig = RequestConfig.custom()
+			.setConnectionRequestTimeout(
+					Timeout.of(this.timeoutProperties.getConnectRequestTimeout(), TimeUnit.MILLISECONDS))
+			.setConnectionKeepAlive(TimeValue.of(this.transportProperties.getKeepAlive()));
+		this.requestConfigCustomizers.forEach(customizer -> customizer.customize(requestConfig));
+
+		var httpClient = HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(requestConfig.build())
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.of(this.transportProperties.getIdleTimeout()));
+		if (!this.transportProperties.isCompression()) {
+			httpClient.disableContentCompression();
+		}
+		return httpClient.build();
+	}
+
+	private static ExecutorService createHedgingExecutor() {
+		return Executors.newCachedThreadPool(runnable -> {
+			var thread = new Thread(runnable, "eureka-client-hedging");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	record TlsSettings(SSLContext sslContext, HostnameVerifier hostnameVerifier) {
+
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancerClientRequestTransformer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+
+/**
+ * Reactive counterpart of {@link SurgicalRoutingRequestTransformer}, adding a surgical
+ * routing header to requests made by a load-balanced
+ * {@link org.springframework.web.reactive.function.client.WebClient} if CF App GUID and
+ * CF Instance Index are present in metadata.
+ *
+ * @see SurgicalRoutingRequestTransformer
+ */
+public class ReactiveSurgicalRoutingRequestTransformer implements LoadBalancerClientRequestTransformer {
+
+	@Override
+	public ClientRequest transformRequest(ClientRequest request, ServiceInstance instance) {
+		var headerValue = SurgicalRoutingRequestTransformer.getHeaderValue(instance);
+		if (headerValue == null) {
+			return request;
+		}
+
+		return ClientRequest.from(request)
+			.headers(headers -> headers.add(SurgicalRoutingRequestTransformer.SURGICAL_ROUTING_HEADER, headerValue))
+			.build();
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * {@link ReactorServiceInstanceLoadBalancer} hashing a key of the request, taken from a
+ * header or from the variables of a path template, onto the instances of a service using
+ * rendezvous hashing, so that requests with the same key keep going to the same instance
+ * and only the keys of an instance going away are moved elsewhere.
+ * <p>
+ * Instances are identified by their {@code cfAppGuid:cfInstanceIndex} pair, which
+ * {@link SurgicalRoutingRequestTransformer} also uses to pin the request to the chosen
+ * instance behind the router. Requests without a key go to a random instance.
+ */
+public class RendezvousHashLoadBalancer extends AbstractServiceInstanceLoadBalancer {
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final String header;
+
+	private final PathPattern pathPattern;
+
+	public RendezvousHashLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+			String serviceId, String header, String pathTemplate) {
+		super(serviceInstanceListSupplierProvider, serviceId);
+		this.header = header;
+		this.pathPattern = ObjectUtils.isEmpty(pathTemplate) ? null
+				: PathPatternParser.defaultInstance.parse(pathTemplate);
+	}
+
+	@Override
+	protected ServiceInstance chooseInstance(List<ServiceInstance> instances, Request<?> request) {
+		var key = requestKey(request);
+		if (key == null) {
+			return instances.get(ThreadLocalRandom.current().nextInt(instances.size()));
+		}
+
+		var keyHash = hash(FNV_OFFSET_BASIS, key);
+		ServiceInstance chosen = null;
+		var highestScore = 0L;
+		for (var instance : instances) {
+			var score = mix(hash(keyHash, instanceIdentity(instance)));
+			if (chosen == null || Long.compareUnsigned(score, highestScore) > 0) {
+				chosen = instance;
+				highestScore = score;
+			}
+		}
+		return chosen;
+	}
+
+	private String requestKey(Request<?> request) {
+		if (request == null || !(request.getContext() instanceof RequestDataContext context)
+				|| context.getClientRequest() == null) {
+			return null;
+		}
+		var requestData = context.getClientRequest();
+		if (this.header != null && requestData.getHeaders() != null) {
+			var value = requestData.getHeaders().getFirst(this.header);
+			if (value != null) {
+				return value;
+			}
+		}
+		if (this.pathPattern != null && requestData.getUrl() != null) {
+			var path = requestData.getUrl().getRawPath();
+			var match = (path != null) ? this.pathPattern.matchAndExtract(PathContainer.parsePath(path)) : null;
+			if (match != null && !match.getUriVariables().isEmpty()) {
+				return String.join("/", match.getUriVariables().values());
+			}
+		}
+		return null;
+	}
+
+	private static String instanceIdentity(ServiceInstance instance) {
+		var identity = SurgicalRoutingRequestTransformer.getHeaderValue(instance);
+		return (identity != null) ? identity : ServiceInstanceStatistics.instanceKey(instance);
+	}
+
+	// FNV-1a, continuing from the given hash
+	private static long hash(long hash, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+
+	// SplitMix64 finalizer, spreading the bits of similar identities
+	private static long mix(long hash) {
+		hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+		hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+		return hash ^ (hash >>> 31);
+	}
+
+}
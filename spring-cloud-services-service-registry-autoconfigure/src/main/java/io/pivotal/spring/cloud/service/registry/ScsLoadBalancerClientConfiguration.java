@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.config.LoadBalancerZoneConfig;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import io.pivotal.spring.cloud.service.registry.EurekaLoadBalancerProperties.Strategy;
+
+/**
+ * Load balancer client configuration, applied to every load balancer client, decorating
+ * the {@link ServiceInstanceListSupplier} of the client and providing its load balancer
+ * according to {@link EurekaLoadBalancerProperties}.
+ * <p>
+ * Default load balancer client configurations are registered under their simple class
+ * name, so this one must not share the name of the one of Spring Cloud Netflix, which
+ * would otherwise replace it, or be replaced by it.
+ */
+@Configuration(proxyBeanMethods = false)
+class ScsLoadBalancerClientConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	@Conditional(OnCustomLoadBalancerCondition.class)
+	ReactorLoadBalancer<ServiceInstance> eurekaReactorServiceInstanceLoadBalancer(Environment environment,
+			LoadBalancerClientFactory loadBalancerClientFactory, EurekaLoadBalancerProperties properties,
+			ObjectProvider<ServiceInstanceStatistics> statistics) {
+		var name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		var supplierProvider = loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class);
+		var slowStart = properties.getSlowStart();
+		return switch (properties.getStrategy()) {
+			case LEAST_IN_FLIGHT -> new LeastInFlightLoadBalancer(supplierProvider, name, statistics.getObject(),
+					slowStart.getWindow(), slowStart.getMinWeight());
+			case CONSISTENT_HASH -> new RendezvousHashLoadBalancer(supplierProvider, name,
+					properties.getConsistentHash().getHeader(), properties.getConsistentHash().getPathTemplate());
+			default -> (slowStart.getWindow() != null)
+					? new SlowStartLoadBalancer(supplierProvider, name, slowStart.getWindow(), slowStart.getMinWeight())
+					: new RoundRobinLoadBalancer(supplierProvider, name);
+		};
+	}
+
+	@Bean
+	static ServiceInstanceListSupplierPostProcessor eurekaServiceInstanceListSupplierPostProcessor() {
+		return new ServiceInstanceListSupplierPostProcessor();
+	}
+
+	/**
+	 * Matches when the load balancer of Spring Cloud LoadBalancer is to be replaced, so
+	 * that it is left alone otherwise.
+	 */
+	static class OnCustomLoadBalancerCondition extends SpringBootCondition {
+
+		@Override
+		public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			var binder = Binder.get(context.getEnvironment());
+			var strategy = binder.bind(EurekaLoadBalancerProperties.PREFIX + ".strategy", Strategy.class)
+				.orElse(Strategy.ROUND_ROBIN);
+			if (strategy != Strategy.ROUND_ROBIN) {
+				return ConditionOutcome.match("Load balancer strategy is " + strategy);
+			}
+			if (binder.bind(EurekaLoadBalancerProperties.PREFIX + ".slow-start.window", Duration.class).isBound()) {
+				return ConditionOutcome.match("Load balancer slow start window is set");
+			}
+			return ConditionOutcome.noMatch("Load balancer strategy is " + strategy + " without slow start");
+		}
+
+	}
+
+	/**
+	 * Wraps the outermost {@link ServiceInstanceListSupplier} of the client, whichever
+	 * way it has been built, with the decorators that are enabled.
+	 */
+	static class ServiceInstanceListSupplierPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+		private BeanFactory beanFactory;
+
+		@Override
+		public void setBeanFactory(BeanFactory beanFactory) {
+			this.beanFactory = beanFactory;
+		}
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+			if (!(bean instanceof ServiceInstanceListSupplier supplier) || isDecorated(supplier)) {
+				return bean;
+			}
+			var properties = this.beanFactory.getBeanProvider(EurekaLoadBalancerProperties.class).getIfAvailable();
+			if (properties == null) {
+				return bean;
+			}
+			return decorate(supplier, properties);
+		}
+
+		private ServiceInstanceListSupplier decorate(ServiceInstanceListSupplier supplier,
+				EurekaLoadBalancerProperties properties) {
+			// Innermost, so that nothing calls the Eureka client before it is initialized
+			var asyncRegistration = this.beanFactory.getBeanProvider(EurekaAsyncRegistration.class).getIfAvailable();
+			var asyncRegistrationProperties = this.beanFactory
+				.getBeanProvider(EurekaAsyncRegistrationProperties.class)
+				.getIfAvailable();
+			if (asyncRegistration != null && asyncRegistrationProperties != null) {
+				supplier = new AwaitingRegistryServiceInstanceListSupplier(supplier, asyncRegistration.initialized(),
+						asyncRegistrationProperties.getMaxWait());
+			}
+			var snapshot = this.beanFactory.getBeanProvider(EurekaRegistrySnapshot.class).getIfAvailable();
+			if (snapshot != null) {
+				supplier = new SnapshotFallbackServiceInstanceListSupplier(supplier, snapshot);
+			}
+			var statistics = this.beanFactory.getBeanProvider(ServiceInstanceStatistics.class).getIfAvailable();
+			// Then, so that the other decorators no longer see ejected instances
+			if (properties.getOutlierEjection().isEnabled() && statistics != null) {
+				supplier = new OutlierEjectionServiceInstanceListSupplier(supplier, statistics,
+						properties.getOutlierEjection());
+			}
+			var zonePreference = properties.getZonePreference();
+			var zoneConfig = this.beanFactory.getBeanProvider(LoadBalancerZoneConfig.class).getIfAvailable();
+			if (zonePreference.isEnabled() && zoneConfig != null && statistics != null) {
+				supplier = new LatencyAwareZonePreferenceServiceInstanceListSupplier(supplier, zoneConfig, statistics,
+						zonePreference.getMinInstances(), zonePreference.getLatencyFactor());
+			}
+			// Last, so that the other decorators see the instances as registered
+			var directRouting = properties.getDirectRouting();
+			if (directRouting.isEnabled()) {
+				supplier = new DirectRoutingServiceInstanceListSupplier(supplier, directRouting.getProbeTimeout(),
+						directRouting.getProbeInterval());
+			}
+			return supplier;
+		}
+
+		private static boolean isDecorated(ServiceInstanceListSupplier supplier) {
+			while (supplier instanceof DelegatingServiceInstanceListSupplier delegating) {
+				if (supplier instanceof AwaitingRegistryServiceInstanceListSupplier
+						|| supplier instanceof DirectRoutingServiceInstanceListSupplier
+						|| supplier instanceof LatencyAwareZonePreferenceServiceInstanceListSupplier
+						|| supplier instanceof OutlierEjectionServiceInstanceListSupplier
+						|| supplier instanceof SnapshotFallbackServiceInstanceListSupplier) {
+					return true;
+				}
+				supplier = delegating.getDelegate();
+			}
+			return false;
+		}
+
+	}
+
+}
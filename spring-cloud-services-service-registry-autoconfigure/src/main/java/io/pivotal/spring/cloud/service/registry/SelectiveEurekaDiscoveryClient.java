@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.List;
+import java.util.Locale;
+
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.EurekaClientConfig;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.netflix.eureka.EurekaServiceInstance;
+
+/**
+ * {@link DiscoveryClient} serving instances from the {@link SelectiveEurekaRegistry}.
+ * It is ordered ahead of the Eureka discovery client, which no longer fetches the
+ * registry.
+ */
+public class SelectiveEurekaDiscoveryClient implements DiscoveryClient {
+
+	private final SelectiveEurekaRegistry registry;
+
+	private final EurekaClientConfig clientConfig;
+
+	public SelectiveEurekaDiscoveryClient(SelectiveEurekaRegistry registry, EurekaClientConfig clientConfig) {
+		this.registry = registry;
+		this.clientConfig = clientConfig;
+	}
+
+	@Override
+	public String description() {
+		return "Selective Eureka Discovery Client";
+	}
+
+	@Override
+	public List<ServiceInstance> getInstances(String serviceId) {
+		return this.registry.getInstances(serviceId)
+			.stream()
+			.filter(instance -> !this.clientConfig.shouldFilterOnlyUpInstances()
+					|| instance.getStatus() == InstanceStatus.UP)
+			.<ServiceInstance>map(EurekaServiceInstance::new)
+			.toList();
+	}
+
+	@Override
+	public List<String> getServices() {
+		return this.registry.getVipAddresses()
+			.stream()
+			.map(vipAddress -> vipAddress.toLowerCase(Locale.ROOT))
+			.toList();
+	}
+
+	@Override
+	public int getOrder() {
+		return DEFAULT_ORDER - 1;
+	}
+
+}
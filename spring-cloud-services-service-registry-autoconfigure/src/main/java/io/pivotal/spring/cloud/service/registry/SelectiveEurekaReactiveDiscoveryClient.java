@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+
+/**
+ * {@link ReactiveDiscoveryClient} adapting the {@link SelectiveEurekaDiscoveryClient}. An
+ * application fetched on first lookup is fetched on a bounded elastic thread.
+ */
+public class SelectiveEurekaReactiveDiscoveryClient implements ReactiveDiscoveryClient {
+
+	private final SelectiveEurekaDiscoveryClient delegate;
+
+	public SelectiveEurekaReactiveDiscoveryClient(SelectiveEurekaDiscoveryClient delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public String description() {
+		return "Selective Eureka Reactive Discovery Client";
+	}
+
+	@Override
+	public Flux<ServiceInstance> getInstances(String serviceId) {
+		return Mono.fromCallable(() -> this.delegate.getInstances(serviceId))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMapMany(Flux::fromIterable);
+	}
+
+	@Override
+	public Flux<String> getServices() {
+		return Flux.defer(() -> Flux.fromIterable(this.delegate.getServices()));
+	}
+
+	@Override
+	public int getOrder() {
+		return this.delegate.getOrder();
+	}
+
+}
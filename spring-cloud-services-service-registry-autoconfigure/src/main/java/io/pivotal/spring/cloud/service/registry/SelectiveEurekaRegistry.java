@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.EurekaClientConfig;
+import com.netflix.discovery.converters.EurekaJacksonCodec;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.netflix.eureka.EurekaClientConfigBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Local registry holding only the applications a client calls, fetched one VIP address
+ * at a time from the service registry, so that memory and fetch cost scale with the
+ * dependencies of the client rather than with the size of the registry. Like in the
+ * Eureka discovery client, instances are looked up by VIP address, which is not
+ * necessarily the name of their application.
+ * <p>
+ * The configured VIP addresses are fetched on startup. Unless auto-detection is disabled,
+ * any other VIP address is fetched the first time its instances are looked up, and kept
+ * up to date as long as it is looked up within the configured idle timeout. A VIP address
+ * without instances stops being fetched on the next refresh. The instances of a VIP
+ * address are only replaced when one of them was added, removed or changed status, and
+ * are kept as is if a fetch fails.
+ * <p>
+ * Since the Eureka client no longer fetches the registry, a {@link HeartbeatEvent} is
+ * published after each refresh, and after a VIP address is fetched for the first time,
+ * so that the listeners of registry fetches resolve the tracked applications instead.
+ */
+public class SelectiveEurekaRegistry implements InitializingBean, DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SelectiveEurekaRegistry.class);
+
+	// Returned by the service registry for VIP addresses without instances
+	private static final Applications NOT_FOUND = new Applications();
+
+	private final EurekaClientConfig clientConfig;
+
+	private final EurekaSelectiveFetchProperties properties;
+
+	private final RestClient restClient;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final AtomicLong heartbeats = new AtomicLong();
+
+	private final Map<String, TrackedVipAddress> vipAddresses = new ConcurrentHashMap<>();
+
+	// First fetches in progress, joined by concurrent lookups of the same VIP address
+	private final Map<String, CompletableFuture<TrackedVipAddress>> firstFetches = new ConcurrentHashMap<>();
+
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		var thread = new Thread(runnable, "eureka-selective-fetch");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public SelectiveEurekaRegistry(EurekaClientConfig clientConfig, EurekaSelectiveFetchProperties properties,
+			ClientHttpRequestFactory requestFactory, ApplicationEventPublisher eventPublisher) {
+		this.clientConfig = clientConfig;
+		this.properties = properties;
+		this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+		this.eventPublisher = eventPublisher;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		var interval = this.properties.getRefreshInterval().toMillis();
+		this.executor.scheduleWithFixedDelay(this::refresh, 0, interval, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * Returns the instances registered under the given VIP address, fetching them first
+	 * if it is not tracked yet and auto-detection is enabled.
+	 * @param vipAddress the VIP address, which is the service id of the instances
+	 * @return the instances, empty if there are none or they are not fetched
+	 */
+	public List<InstanceInfo> getInstances(String vipAddress) {
+		var key = vipAddress.toUpperCase(Locale.ROOT);
+		var tracked = this.vipAddresses.get(key);
+		if (tracked == null && (this.properties.isAutoDetect() || isConfigured(key))) {
+			tracked = fetchFirst(key);
+		}
+		if (tracked == null) {
+			return List.of();
+		}
+		tracked.lastUsed = System.nanoTime();
+		return tracked.instances();
+	}
+
+	/**
+	 * Returns the VIP addresses fetched so far.
+	 * @return the VIP addresses
+	 */
+	public Set<String> getVipAddresses() {
+		return Set.copyOf(this.vipAddresses.keySet());
+	}
+
+	/**
+	 * Returns the applications of the instances fetched so far.
+	 * @return the applications
+	 */
+	public Applications getApplications() {
+		var applications = new Applications();
+		for (var tracked : this.vipAddresses.values()) {
+			for (var application : tracked.applications()) {
+				// Instances registered under several VIP addresses are only added once
+				var merged = applications.getRegisteredApplications(application.getName());
+				if (merged == null) {
+					merged = new Application(application.getName());
+					applications.addApplication(merged);
+				}
+				application.getInstancesAsIsFromEureka().forEach(merged::addInstance);
+			}
+		}
+		return applications;
+	}
+
+	void refresh() {
+		var now = System.nanoTime();
+		var idleTimeout = this.properties.getIdleTimeout().toNanos();
+		this.vipAddresses.forEach((vipAddress, tracked) -> {
+			// Detected VIP addresses without instances, or no longer looked up, are dropped
+			if (!isConfigured(vipAddress) && (!tracked.found() || now - tracked.lastUsed > idleTimeout)) {
+				this.vipAddresses.remove(vipAddress, tracked);
+			}
+		});
+		var vipAddresses = new LinkedHashSet<>(this.vipAddresses.keySet());
+		this.properties.getApplications()
+			.forEach(vipAddress -> vipAddresses.add(vipAddress.toUpperCase(Locale.ROOT)));
+		for (var vipAddress : vipAddresses) {
+			var applications = fetch(vipAddress);
+			if (applications != null) {
+				update(vipAddress, applications);
+			}
+		}
+		publishHeartbeat();
+	}
+
+	private TrackedVipAddress fetchFirst(String vipAddress) {
+		var firstFetch = new CompletableFuture<TrackedVipAddress>();
+		var inProgress = this.firstFetches.putIfAbsent(vipAddress, firstFetch);
+		if (inProgress != null) {
+			return inProgress.join();
+		}
+		try {
+			// Fetched by another lookup in the meantime
+			var tracked = this.vipAddresses.get(vipAddress);
+			if (tracked == null) {
+				var applications = fetch(vipAddress);
+				tracked = (applications != null) ? update(vipAddress, applications) : null;
+				if (tracked != null) {
+					// Published from the fetch thread rather than the one of the lookup
+					publishHeartbeatAsync();
+				}
+			}
+			firstFetch.complete(tracked);
+			return tracked;
+		}
+		catch (RuntimeException ex) {
+			firstFetch.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.firstFetches.remove(vipAddress, firstFetch);
+		}
+	}
+
+	// Keeps the tracked instances if none of them changed
+	private TrackedVipAddress update(String vipAddress, Applications applications) {
+		var fetched = new TrackedVipAddress(applications.getRegisteredApplications());
+		return this.vipAddresses.merge(vipAddress, fetched, (tracked, updated) -> {
+			if (tracked.signature() == updated.signature() && tracked.found() == updated.found()) {
+				return tracked;
+			}
+			updated.lastUsed = tracked.lastUsed;
+			return updated;
+		});
+	}
+
+	private void publishHeartbeat() {
+		this.eventPublisher.publishEvent(new HeartbeatEvent(this, this.heartbeats.incrementAndGet()));
+	}
+
+	private void publishHeartbeatAsync() {
+		try {
+			this.executor.execute(this::publishHeartbeat);
+		}
+		catch (RejectedExecutionException ex) {
+			LOGGER.debug("Not publishing the registry heartbeat, the registry is shut down");
+		}
+	}
+
+	private boolean isConfigured(String vipAddress) {
+		return this.properties.getApplications().stream().anyMatch(vipAddress::equalsIgnoreCase);
+	}
+
+	// Tries each service URL in turn, returns null if none answered
+	private Applications fetch(String vipAddress) {
+		for (var serviceUrl : this.clientConfig.getEurekaServerServiceUrls(EurekaClientConfigBean.DEFAULT_ZONE)) {
+			try {
+				return this.restClient.get()
+					.uri(vipAddressUri(serviceUrl, vipAddress))
+					.accept(MediaType.APPLICATION_JSON)
+					.exchange((request, response) -> {
+						if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+							return NOT_FOUND;
+						}
+						if (response.getStatusCode().isError()) {
+							throw new IOException("Unexpected status " + response.getStatusCode());
+						}
+						return EurekaJacksonCodec.getInstance().readValue(Applications.class, response.getBody());
+					});
+			}
+			catch (RuntimeException ex) {
+				LOGGER.debug("Failed to fetch VIP address {} from {}", vipAddress, serviceUrl, ex);
+			}
+		}
+		LOGGER.warn("Failed to fetch VIP address {} from the service registry", vipAddress);
+		return null;
+	}
+
+	static URI vipAddressUri(String serviceUrl, String vipAddress) {
+		return UriComponentsBuilder.fromUriString(serviceUrl).pathSegment("vips", vipAddress).encode().build().toUri();
+	}
+
+	private static final class TrackedVipAddress {
+
+		private final List<Application> applications;
+
+		private final List<InstanceInfo> instances;
+
+		private final long signature;
+
+		private volatile long lastUsed = System.nanoTime();
+
+		TrackedVipAddress(List<Application> applications) {
+			this.applications = List.copyOf(applications);
+			this.instances = this.applications.stream()
+				.flatMap(application -> application.getInstancesAsIsFromEureka().stream())
+				.toList();
+			this.signature = this.applications.stream().mapToLong(LoadBalancerCacheInvalidator::signature).sum();
+		}
+
+		List<Application> applications() {
+			return this.applications;
+		}
+
+		List<InstanceInfo> instances() {
+			return this.instances;
+		}
+
+		long signature() {
+			return this.signature;
+		}
+
+		boolean found() {
+			return !this.instances.isEmpty();
+		}
+
+	}
+
+}
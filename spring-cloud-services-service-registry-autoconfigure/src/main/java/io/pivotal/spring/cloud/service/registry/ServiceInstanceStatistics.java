@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link LoadBalancerLifecycle} keeping track, per service instance, of the load-balanced
+ * requests in flight, of their latency and of their failures, as observed by this client,
+ * as well as of the instances ejected because of those.
+ * <p>
+ * Instances are identified by the {@code instanceId} published in their metadata, or by
+ * their {@code cfAppGuid:cfInstanceIndex} pair, so that an instance is recognized behind
+ * the router as well as on its container address.
+ */
+public class ServiceInstanceStatistics implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+	// Statistics of instances without requests for that long are dropped
+	private static final long IDLE_TIMEOUT = TimeUnit.MINUTES.toNanos(10);
+
+	// Cap of the multiplier of the ejection cooldown of repeatedly ejected instances
+	private static final int MAX_EJECTION_MULTIPLIER = 5;
+
+	private final Map<String, InstanceStatistics> statistics = new ConcurrentHashMap<>();
+
+	private volatile long lastPruned = System.nanoTime();
+
+	@Override
+	public void onStart(Request<Object> request) {
+	}
+
+	@Override
+	public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+		if (request != null && request.getContext() instanceof TimedRequestContext context
+				&& context.getRequestStartTime() == 0) {
+			context.setRequestStartTime(System.nanoTime());
+		}
+		if (lbResponse != null && lbResponse.hasServer()) {
+			statistics(lbResponse.getServer()).requestStarted();
+		}
+		pruneIdleInstances();
+	}
+
+	@Override
+	public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+		var lbResponse = completionContext.getLoadBalancerResponse();
+		if (lbResponse == null || !lbResponse.hasServer()) {
+			return;
+		}
+		var latency = -1L;
+		var request = completionContext.getLoadBalancerRequest();
+		if (completionContext.status() != CompletionContext.Status.DISCARD && request != null
+				&& request.getContext() instanceof TimedRequestContext context && context.getRequestStartTime() != 0) {
+			latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - context.getRequestStartTime());
+		}
+		statistics(lbResponse.getServer()).requestCompleted(latency, isFailure(completionContext));
+	}
+
+	/**
+	 * Returns the number of load-balanced requests currently in flight to the given
+	 * instance.
+	 * @param instance the service instance
+	 * @return the number of requests in flight
+	 */
+	public int getInFlightRequests(ServiceInstance instance) {
+		var instanceStatistics = this.statistics.get(instanceKey(instance));
+		return (instanceStatistics != null) ? instanceStatistics.inFlightRequests() : 0;
+	}
+
+	/**
+	 * Returns the exponentially weighted average latency, in milliseconds, of the
+	 * requests made to the given instance.
+	 * @param instance the service instance
+	 * @return the average latency, or a negative value if no request completed yet
+	 */
+	public double getAverageLatency(ServiceInstance instance) {
+		var instanceStatistics = this.statistics.get(instanceKey(instance));
+		return (instanceStatistics != null) ? instanceStatistics.averageLatency() : -1;
+	}
+
+	/**
+	 * Returns the health of the given instance, re-admitting it if its ejection cooldown
+	 * has elapsed.
+	 * @param instance the service instance
+	 * @return the health of the instance
+	 */
+	public InstanceHealth getHealth(ServiceInstance instance) {
+		var instanceStatistics = this.statistics.get(instanceKey(instance));
+		return (instanceStatistics != null) ? instanceStatistics.health(System.nanoTime()) : InstanceHealth.UNKNOWN;
+	}
+
+	/**
+	 * Ejects the given instance for the given cooldown, multiplied by the number of times
+	 * in a row the instance has been ejected. Ejections are no longer counted as in a row
+	 * once the instance has not been ejected for as long as its last ejection lasted since
+	 * it was re-admitted.
+	 * @param instance the service instance
+	 * @param cooldown the cooldown of a first ejection
+	 */
+	public void eject(ServiceInstance instance, Duration cooldown) {
+		statistics(instance).eject(System.nanoTime(), cooldown.toNanos());
+	}
+
+	/**
+	 * Returns the key identifying the given instance across the addresses it can be
+	 * reached on.
+	 * @param instance the service instance
+	 * @return the instance key
+	 */
+	static String instanceKey(ServiceInstance instance) {
+		var metadata = instance.getMetadata();
+		if (metadata != null) {
+			var instanceId = metadata.get(EurekaInstanceAutoConfiguration.INSTANCE_ID);
+			if (!ObjectUtils.isEmpty(instanceId)) {
+				return instanceId;
+			}
+			var surgicalRoutingHeader = SurgicalRoutingRequestTransformer.getHeaderValue(instance);
+			if (surgicalRoutingHeader != null) {
+				return surgicalRoutingHeader;
+			}
+		}
+		if (!ObjectUtils.isEmpty(instance.getInstanceId())) {
+			return instance.getInstanceId();
+		}
+		return instance.getHost() + ":" + instance.getPort();
+	}
+
+	private InstanceStatistics statistics(ServiceInstance instance) {
+		return this.statistics.computeIfAbsent(instanceKey(instance), key -> new InstanceStatistics());
+	}
+
+	private static boolean isFailure(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+		if (completionContext.status() == CompletionContext.Status.FAILED) {
+			return true;
+		}
+		return completionContext.getClientResponse() instanceof ResponseData responseData
+				&& responseData.getHttpStatus() != null && responseData.getHttpStatus().is5xxServerError();
+	}
+
+	private void pruneIdleInstances() {
+		var now = System.nanoTime();
+		if (now - this.lastPruned < IDLE_TIMEOUT) {
+			return;
+		}
+		this.lastPruned = now;
+		this.statistics.values().removeIf(instanceStatistics -> instanceStatistics.isIdle(now));
+	}
+
+	private static final class InstanceStatistics {
+
+		// Weight of the latest request in the average latency of the instance
+		private static final double LATENCY_ALPHA = 0.3;
+
+		// Weight of the latest outcome in the error rate
+		private static final double ERROR_RATE_ALPHA = 0.1;
+
+		private int inFlightRequests;
+
+		private double averageLatency = -1;
+
+		private long completedRequests;
+
+		private int consecutiveFailures;
+
+		private double errorRate;
+
+		private long ejectedUntil;
+
+		private int ejections;
+
+		private long ejectedFor;
+
+		private long readmittedAt;
+
+		private long lastUsed = System.nanoTime();
+
+		synchronized void requestStarted() {
+			this.inFlightRequests++;
+			this.lastUsed = System.nanoTime();
+		}
+
+		synchronized void requestCompleted(long latency, boolean failure) {
+			this.inFlightRequests = Math.max(0, this.inFlightRequests - 1);
+			this.lastUsed = System.nanoTime();
+			if (latency >= 0) {
+				this.averageLatency = (this.averageLatency < 0) ? latency
+						: LATENCY_ALPHA * latency + (1 - LATENCY_ALPHA) * this.averageLatency;
+			}
+			this.completedRequests++;
+			this.errorRate = ERROR_RATE_ALPHA * (failure ? 1 : 0) + (1 - ERROR_RATE_ALPHA) * this.errorRate;
+			if (failure) {
+				this.consecutiveFailures++;
+			}
+			else {
+				this.consecutiveFailures = 0;
+			}
+		}
+
+		synchronized void eject(long now, long cooldown) {
+			// The backoff is only reset by a sustained healthy period, not by a success
+			if (this.ejections > 0 && now - this.readmittedAt >= this.ejectedFor) {
+				this.ejections = 0;
+			}
+			this.ejections = Math.min(this.ejections + 1, MAX_EJECTION_MULTIPLIER);
+			this.ejectedFor = cooldown * this.ejections;
+			this.ejectedUntil = now + this.ejectedFor;
+		}
+
+		synchronized InstanceHealth health(long now) {
+			if (this.ejectedUntil != 0 && now - this.ejectedUntil >= 0) {
+				// Only the evidence the ejection was based on is dropped, the average latency
+				// is kept for load balancing and a new ejection backs off further
+				this.ejectedUntil = 0;
+				this.readmittedAt = now;
+				this.completedRequests = 0;
+				this.consecutiveFailures = 0;
+				this.errorRate = 0;
+			}
+			return new InstanceHealth(this.completedRequests, this.consecutiveFailures, this.errorRate,
+					this.averageLatency, this.ejectedUntil != 0);
+		}
+
+		synchronized int inFlightRequests() {
+			return this.inFlightRequests;
+		}
+
+		synchronized double averageLatency() {
+			return this.averageLatency;
+		}
+
+		synchronized boolean isIdle(long now) {
+			return this.inFlightRequests == 0 && now - this.lastUsed > IDLE_TIMEOUT;
+		}
+
+	}
+
+	/**
+	 * Health of a service instance, as observed by this client.
+	 *
+	 * @param completedRequests the number of completed requests since the instance was
+	 * first seen or last re-admitted
+	 * @param consecutiveFailures the number of consecutive failed requests
+	 * @param errorRate the exponentially weighted ratio of failed requests
+	 * @param averageLatency the exponentially weighted average latency in milliseconds,
+	 * or a negative value if unknown
+	 * @param ejected whether the instance is currently ejected
+	 */
+	public record InstanceHealth(long completedRequests, int consecutiveFailures, double errorRate,
+			double averageLatency, boolean ejected) {
+
+		static final InstanceHealth UNKNOWN = new InstanceHealth(0, 0, 0, -1, false);
+
+	}
+
+}
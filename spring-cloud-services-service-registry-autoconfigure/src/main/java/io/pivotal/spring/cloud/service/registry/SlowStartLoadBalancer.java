@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+/**
+ * {@link ReactorServiceInstanceLoadBalancer} choosing instances at random, weighted by
+ * how long ago they started, as published in metadata by
+ * {@link EurekaInstanceAutoConfiguration}. The weight of an instance ramps up linearly
+ * from a minimum weight to full weight over the warm-up window, so that a freshly started
+ * instance is not given a full share of the traffic while its JIT and caches are cold.
+ */
+public class SlowStartLoadBalancer extends AbstractServiceInstanceLoadBalancer {
+
+	public static final String START_TIME = "startTime";
+
+	private final Duration window;
+
+	private final double minWeight;
+
+	public SlowStartLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+			String serviceId, Duration window, double minWeight) {
+		super(serviceInstanceListSupplierProvider, serviceId);
+		this.window = window;
+		this.minWeight = minWeight;
+	}
+
+	@Override
+	protected ServiceInstance chooseInstance(List<ServiceInstance> instances, Request<?> request) {
+		if (instances.size() == 1) {
+			return instances.get(0);
+		}
+
+		var now = System.currentTimeMillis();
+		var weights = new double[instances.size()];
+		var totalWeight = 0d;
+		for (int i = 0; i < instances.size(); i++) {
+			weights[i] = warmUpWeight(instances.get(i), this.window, this.minWeight, now);
+			totalWeight += weights[i];
+		}
+		// All instances just started with a minimum weight of 0
+		if (totalWeight <= 0) {
+			return instances.get(ThreadLocalRandom.current().nextInt(instances.size()));
+		}
+		var target = ThreadLocalRandom.current().nextDouble(totalWeight);
+		for (int i = 0; i < instances.size(); i++) {
+			target -= weights[i];
+			if (target < 0) {
+				return instances.get(i);
+			}
+		}
+		return instances.get(instances.size() - 1);
+	}
+
+	/**
+	 * Returns the weight of the given instance, between the given minimum weight and
+	 * {@code 1}, according to how far it is into the given warm-up window. Instances
+	 * without a start time are given full weight.
+	 * @param instance the service instance
+	 * @param window the warm-up window
+	 * @param minWeight the weight of an instance that just started
+	 * @param now the current time in milliseconds since the epoch
+	 * @return the weight of the instance
+	 */
+	static double warmUpWeight(ServiceInstance instance, Duration window, double minWeight, long now) {
+		var metadata = instance.getMetadata();
+		var startTime = (metadata != null) ? metadata.get(START_TIME) : null;
+		if (startTime == null || window == null || window.isZero() || window.isNegative()) {
+			return 1;
+		}
+		long elapsed;
+		try {
+			elapsed = now - Long.parseLong(startTime);
+		}
+		catch (NumberFormatException ex) {
+			return 1;
+		}
+		if (elapsed >= window.toMillis()) {
+			return 1;
+		}
+		// Clock skew between hosts can make a start time look like it is in the future
+		var progress = Math.max(0, (double) elapsed / window.toMillis());
+		return minWeight + (1 - minWeight) * progress;
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+/**
+ * {@link ServiceInstanceListSupplier} serving the instances of the
+ * {@link EurekaRegistrySnapshot} while the delegate has none, until the registry has been
+ * fetched after a restart.
+ */
+public class SnapshotFallbackServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+	private final EurekaRegistrySnapshot snapshot;
+
+	public SnapshotFallbackServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
+			EurekaRegistrySnapshot snapshot) {
+		super(delegate);
+		this.snapshot = snapshot;
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get() {
+		return this.delegate.get().map(this::fallback);
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get(Request request) {
+		return this.delegate.get(request).map(this::fallback);
+	}
+
+	private List<ServiceInstance> fallback(List<ServiceInstance> instances) {
+		return instances.isEmpty() ? this.snapshot.getInstances(getServiceId()) : instances;
+	}
+
+}
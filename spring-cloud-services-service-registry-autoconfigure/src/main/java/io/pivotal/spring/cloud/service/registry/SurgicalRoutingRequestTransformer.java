@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2024 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,7 +23,8 @@ import org.springframework.http.client.support.HttpRequestWrapper;
 
 /**
  * Adds a surgical routing header to the request if CF App GUID and CF Instance Index are
- * present in metadata.
+ * present in metadata. The headers of the transformed request are built once, on first
+ * access.
  *
  * @author William Tran
  * @see <a href=
@@ -41,27 +42,54 @@ public class SurgicalRoutingRequestTransformer implements LoadBalancerRequestTra
 
 	@Override
 	public HttpRequest transformRequest(HttpRequest request, ServiceInstance instance) {
-		if (instance == null) {
+		var headerValue = getHeaderValue(instance);
+		if (headerValue == null) {
 			return request;
 		}
 
+		// request.getHeaders might be immutable, so return a wrapper
+		return new SurgicalRoutingHttpRequest(request, headerValue);
+	}
+
+	/**
+	 * Returns the surgical routing header value for the given instance.
+	 * @param instance the service instance, may be {@code null}
+	 * @return the header value, or {@code null} if the instance has no CF App GUID or CF
+	 * Instance Index in its metadata
+	 */
+	static String getHeaderValue(ServiceInstance instance) {
+		if (instance == null) {
+			return null;
+		}
 		var metadata = instance.getMetadata();
-		if (!metadata.containsKey(CF_APP_GUID) || !metadata.containsKey(CF_INSTANCE_INDEX)) {
-			return request;
+		if (metadata == null || !metadata.containsKey(CF_APP_GUID) || !metadata.containsKey(CF_INSTANCE_INDEX)) {
+			return null;
 		}
+		return metadata.get(CF_APP_GUID) + ":" + metadata.get(CF_INSTANCE_INDEX);
+	}
 
-		final var headerValue = "%s:%s".formatted(metadata.get(CF_APP_GUID), metadata.get(CF_INSTANCE_INDEX));
+	private static final class SurgicalRoutingHttpRequest extends HttpRequestWrapper {
 
-		// request.getHeaders might be immutable, so return a wrapper
-		return new HttpRequestWrapper(request) {
-			@Override
-			public HttpHeaders getHeaders() {
+		private final String headerValue;
+
+		private HttpHeaders headers;
+
+		SurgicalRoutingHttpRequest(HttpRequest request, String headerValue) {
+			super(request);
+			this.headerValue = headerValue;
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			if (this.headers == null) {
 				var headers = new HttpHeaders();
 				headers.putAll(super.getHeaders());
-				headers.add(SURGICAL_ROUTING_HEADER, headerValue);
-				return headers;
+				headers.add(SURGICAL_ROUTING_HEADER, this.headerValue);
+				this.headers = headers;
 			}
-		};
+			return this.headers;
+		}
+
 	}
 
 }
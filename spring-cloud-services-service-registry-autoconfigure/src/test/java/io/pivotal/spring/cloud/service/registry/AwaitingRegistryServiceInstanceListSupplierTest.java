@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AwaitingRegistryServiceInstanceListSupplierTest {
+
+	private final ServiceInstance instance = new DefaultServiceInstance("app-1", "app", "app.example.com", 443, true);
+
+	private final AtomicInteger delegateCalls = new AtomicInteger();
+
+	private final CompletableFuture<Void> initialization = new CompletableFuture<>();
+
+	@Test
+	public void instancesAreReturnedOnceInitialized() {
+		var supplier = supplier(Duration.ofSeconds(5));
+		CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)
+			.execute(() -> this.initialization.complete(null));
+
+		assertThat(supplier.get().blockFirst()).containsExactly(this.instance);
+		assertThat(this.delegateCalls).hasValue(1);
+	}
+
+	@Test
+	public void noInstancesAreReturnedWhenInitializationTakesTooLong() {
+		var supplier = supplier(Duration.ofMillis(100));
+
+		assertThat(supplier.get().blockFirst()).isEmpty();
+		assertThat(this.delegateCalls).hasValue(0);
+		assertThat(this.initialization).isNotDone();
+	}
+
+	@Test
+	public void delegateIsCalledWhenInitializationFailed() {
+		var supplier = supplier(Duration.ofSeconds(5));
+		this.initialization.completeExceptionally(new IllegalStateException("Registry unavailable"));
+
+		assertThat(supplier.get().blockFirst()).containsExactly(this.instance);
+	}
+
+	private AwaitingRegistryServiceInstanceListSupplier supplier(Duration maxWait) {
+		var delegate = new DelegatingServiceInstanceListSupplier(
+				ServiceInstanceListSuppliers.from("app", this.instance)) {
+
+			@Override
+			public Flux<List<ServiceInstance>> get() {
+				AwaitingRegistryServiceInstanceListSupplierTest.this.delegateCalls.incrementAndGet();
+				return this.delegate.get();
+			}
+
+		};
+		return new AwaitingRegistryServiceInstanceListSupplier(delegate, this.initialization, maxWait);
+	}
+
+}
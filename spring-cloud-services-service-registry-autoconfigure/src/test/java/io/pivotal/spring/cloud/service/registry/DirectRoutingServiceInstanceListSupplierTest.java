@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class DirectRoutingServiceInstanceListSupplierTest {
+
+	private static final String LOOPBACK = "127.0.0.1";
+
+	private ServerSocket serverSocket;
+
+	@BeforeEach
+	public void setup() throws IOException {
+		this.serverSocket = new ServerSocket(0, 50, InetAddress.getByName(LOOPBACK));
+	}
+
+	@AfterEach
+	public void tearDown() throws IOException {
+		this.serverSocket.close();
+	}
+
+	@Test
+	public void reachableContainerAddressIsPreferred() {
+		var supplier = supplier(routedInstance(this.serverSocket.getLocalPort()));
+
+		assertThat(supplier.get().blockFirst()).singleElement().satisfies(this::assertRoute);
+		await().untilAsserted(() -> assertThat(supplier.get().blockFirst()).singleElement().satisfies(instance -> {
+			assertThat(instance.getHost()).isEqualTo(LOOPBACK);
+			assertThat(instance.getPort()).isEqualTo(this.serverSocket.getLocalPort());
+			assertThat(instance.isSecure()).isFalse();
+			assertThat(instance.getInstanceId()).isEqualTo("app-1");
+			assertThat(instance.getMetadata()).containsEntry("instanceId", "app-1");
+		}));
+	}
+
+	@Test
+	public void unreachableContainerAddressFallsBackToRoute() throws IOException {
+		var port = this.serverSocket.getLocalPort();
+		this.serverSocket.close();
+		var supplier = supplier(routedInstance(port));
+
+		assertThat(supplier.get().blockFirst()).singleElement().satisfies(this::assertRoute);
+		await().pollDelay(Duration.ofMillis(500))
+			.untilAsserted(() -> assertThat(supplier.get().blockFirst()).singleElement().satisfies(this::assertRoute));
+	}
+
+	@Test
+	public void reachabilityOfDroppedInstanceIsForgotten() {
+		var instance = routedInstance(this.serverSocket.getLocalPort());
+		var instances = new AtomicReference<List<ServiceInstance>>(List.of(instance));
+		var supplier = new DirectRoutingServiceInstanceListSupplier(new ServiceInstanceListSupplier() {
+
+			@Override
+			public String getServiceId() {
+				return "app";
+			}
+
+			@Override
+			public Flux<List<ServiceInstance>> get() {
+				return Flux.just(instances.get());
+			}
+
+		}, Duration.ofMillis(200), Duration.ofMinutes(1));
+		await().untilAsserted(() -> assertThat(supplier.get().blockFirst()).singleElement()
+			.satisfies(routed -> assertThat(routed.getHost()).isEqualTo(LOOPBACK)));
+
+		instances.set(List.of());
+		supplier.get().blockFirst();
+		instances.set(List.of(instance));
+
+		assertThat(supplier.get().blockFirst()).singleElement().satisfies(this::assertRoute);
+	}
+
+	@Test
+	public void instanceWithoutContainerAddressIsUnchanged() {
+		var instance = new DefaultServiceInstance("app-2", "app", "app.example.com", 443, true);
+		var supplier = supplier(instance);
+
+		assertThat(supplier.get().blockFirst()).containsExactly(instance);
+	}
+
+	private DirectRoutingServiceInstanceListSupplier supplier(ServiceInstance instance) {
+		return new DirectRoutingServiceInstanceListSupplier(ServiceInstanceListSuppliers.from("app", instance),
+				Duration.ofMillis(200), Duration.ofMinutes(1));
+	}
+
+	private static ServiceInstance routedInstance(int port) {
+		return new DefaultServiceInstance("app-1", "app", "app.example.com", 443, true, Map.of("instanceId", "app-1",
+				"cfInstanceInternalIp", LOOPBACK, "cfInstanceInternalPort", String.valueOf(port)));
+	}
+
+	private void assertRoute(ServiceInstance instance) {
+		assertThat(instance.getHost()).isEqualTo("app.example.com");
+		assertThat(instance.getPort()).isEqualTo(443);
+		assertThat(instance.isSecure()).isTrue();
+	}
+
+}
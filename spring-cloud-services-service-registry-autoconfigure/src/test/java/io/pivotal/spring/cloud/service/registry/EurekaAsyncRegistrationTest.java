@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.concurrent.TimeUnit;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.EurekaInstanceConfig;
+import com.netflix.appinfo.HealthCheckHandler;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.EurekaClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.commons.util.InetUtils;
+import org.springframework.cloud.commons.util.InetUtilsProperties;
+import org.springframework.cloud.netflix.eureka.EurekaInstanceConfigBean;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EurekaAsyncRegistrationTest {
+
+	@Mock
+	private EurekaClient eurekaClient;
+
+	@Mock
+	private ApplicationInfoManager applicationInfoManager;
+
+	@Mock
+	private EurekaInstanceConfig instanceConfig;
+
+	@Mock
+	private HealthCheckHandler healthCheckHandler;
+
+	private final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+
+	private final MockEnvironment environment = new MockEnvironment();
+
+	@BeforeEach
+	public void setup() {
+		this.beanFactory.addBean("eurekaClient", this.eurekaClient);
+		this.beanFactory.addBean("healthCheckHandler", this.healthCheckHandler);
+		lenient().when(this.instanceConfig.getInitialStatus()).thenReturn(InstanceStatus.UP);
+	}
+
+	@Test
+	public void clientIsInitializedAndInstanceMarkedWithInitialStatus() throws Exception {
+		givenStatus(InstanceStatus.STARTING);
+		var registration = registration();
+
+		registration.register();
+
+		registration.initialized().toCompletableFuture().get(5, TimeUnit.SECONDS);
+		verify(this.eurekaClient).getApplications();
+		verify(this.eurekaClient).registerHealthCheck(this.healthCheckHandler);
+		verify(this.applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+	}
+
+	@Test
+	public void statusChangedInTheMeantimeIsLeftAlone() {
+		givenStatus(InstanceStatus.OUT_OF_SERVICE);
+
+		registration().register();
+
+		verify(this.applicationInfoManager, never()).setInstanceStatus(any());
+	}
+
+	@Test
+	public void initializationFailureIsExposed() {
+		when(this.eurekaClient.getApplications()).thenThrow(new IllegalStateException("Registry unavailable"));
+		var registration = registration();
+
+		registration.register();
+
+		assertThat(registration.initialized().toCompletableFuture()).isCompletedExceptionally();
+	}
+
+	@Test
+	public void localServerPortIsRegisteredWhenPortIsNotConfigured() {
+		var instanceConfig = new EurekaInstanceConfigBean(new InetUtils(new InetUtilsProperties()));
+		instanceConfig.setNonSecurePort(0);
+		var instanceInfo = givenStatus(InstanceStatus.STARTING);
+		this.environment.setProperty("local.server.port", "41234");
+
+		registration(instanceConfig).register();
+
+		assertThat(instanceConfig.getNonSecurePort()).isEqualTo(41234);
+		assertThat(instanceInfo.getPort()).isEqualTo(41234);
+		assertThat(instanceInfo.isDirty()).isTrue();
+	}
+
+	@Test
+	public void configuredPortIsKept() {
+		var instanceConfig = new EurekaInstanceConfigBean(new InetUtils(new InetUtilsProperties()));
+		instanceConfig.setNonSecurePort(8080);
+		givenStatus(InstanceStatus.STARTING);
+		this.environment.setProperty("local.server.port", "41234");
+
+		registration(instanceConfig).register();
+
+		assertThat(instanceConfig.getNonSecurePort()).isEqualTo(8080);
+	}
+
+	private EurekaAsyncRegistration registration() {
+		return registration(this.instanceConfig);
+	}
+
+	private EurekaAsyncRegistration registration(EurekaInstanceConfig instanceConfig) {
+		return new EurekaAsyncRegistration(this.beanFactory.getBeanProvider(EurekaClient.class),
+				this.applicationInfoManager, instanceConfig, this.beanFactory.getBeanProvider(HealthCheckHandler.class),
+				this.environment);
+	}
+
+	private InstanceInfo givenStatus(InstanceStatus status) {
+		var instanceInfo = InstanceInfo.Builder.newBuilder().setAppName("app").setStatus(status).build();
+		when(this.applicationInfoManager.getInfo()).thenReturn(instanceInfo);
+		return instanceInfo;
+	}
+
+}
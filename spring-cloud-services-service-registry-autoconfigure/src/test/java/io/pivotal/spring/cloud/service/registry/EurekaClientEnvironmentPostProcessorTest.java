@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class EurekaClientEnvironmentPostProcessorTest {
+
+	private static final String LEASE_RENEWAL_INTERVAL = "eureka.instance.lease-renewal-interval-in-seconds";
+
+	private static final String REGISTRY_FETCH_INTERVAL = "eureka.client.registry-fetch-interval-seconds";
+
+	private final EurekaClientEnvironmentPostProcessor postProcessor = new EurekaClientEnvironmentPostProcessor();
+
+	@Test
+	public void intervalsAreSpreadAcrossInstances() {
+		var intervals = new HashSet<Integer>();
+		for (int index = 0; index < 10; index++) {
+			var environment = jitterEnabled().withProperty("cf.instance.index", String.valueOf(index));
+
+			this.postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+			int interval = environment.getProperty(LEASE_RENEWAL_INTERVAL, Integer.class);
+			assertThat(interval).isBetween(27, 33);
+			assertThat(environment.getProperty(REGISTRY_FETCH_INTERVAL, Integer.class)).isEqualTo(interval);
+			intervals.add(interval);
+		}
+		assertThat(intervals).hasSizeGreaterThan(4);
+	}
+
+	@Test
+	public void intervalsAreRoundedToWholeSeconds() {
+		var intervals = new HashSet<Integer>();
+		for (int index = 0; index < 100; index++) {
+			var environment = jitterEnabled().withProperty("cf.instance.index", String.valueOf(index));
+
+			this.postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+			intervals.add(environment.getProperty(LEASE_RENEWAL_INTERVAL, Integer.class));
+		}
+		assertThat(intervals).containsExactlyInAnyOrder(27, 28, 29, 30, 31, 32, 33);
+	}
+
+	@Test
+	public void jitterFactorOutOfRangeIsRejected() {
+		for (var factor : new String[] { "0", "1", "-0.1", "1.5" }) {
+			var environment = jitterEnabled().withProperty(EurekaClientEnvironmentPostProcessor.JITTER_FACTOR, factor)
+				.withProperty("cf.instance.index", "1");
+
+			assertThatIllegalArgumentException()
+				.isThrownBy(() -> this.postProcessor.postProcessEnvironment(environment, new SpringApplication()))
+				.withMessageContaining(EurekaClientEnvironmentPostProcessor.JITTER_FACTOR);
+		}
+	}
+
+	@Test
+	public void configuredIntervalsAreJittered() {
+		var environment = jitterEnabled().withProperty(EurekaClientEnvironmentPostProcessor.JITTER_FACTOR, "0.5")
+			.withProperty(REGISTRY_FETCH_INTERVAL, "10")
+			.withProperty("cf.instance.index", "1");
+
+		this.postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+		assertThat(environment.getProperty(REGISTRY_FETCH_INTERVAL, Integer.class)).isBetween(5, 15)
+			.isNotEqualTo(10);
+	}
+
+	@Test
+	public void intervalsConfiguredInCamelCaseAreJittered() {
+		var environment = jitterEnabled().withProperty(EurekaClientEnvironmentPostProcessor.JITTER_FACTOR, "0.5")
+			.withProperty("eureka.client.registryFetchIntervalSeconds", "10")
+			.withProperty("cf.instance.index", "1");
+
+		this.postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+		assertThat(environment.getProperty(REGISTRY_FETCH_INTERVAL, Integer.class)).isBetween(5, 15)
+			.isNotEqualTo(10);
+	}
+
+	@Test
+	public void intervalsAreLeftAloneWithoutInstanceIndex() {
+		var environment = jitterEnabled();
+
+		this.postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+		assertThat(environment.getProperty(LEASE_RENEWAL_INTERVAL)).isNull();
+	}
+
+	@Test
+	public void intervalsAreLeftAloneWhenJitterIsDisabled() {
+		var environment = new MockEnvironment().withProperty("cf.instance.index", "3");
+
+		this.postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+		assertThat(environment.getProperty(LEASE_RENEWAL_INTERVAL)).isNull();
+	}
+
+	private static MockEnvironment jitterEnabled() {
+		return new MockEnvironment().withProperty(EurekaClientEnvironmentPostProcessor.JITTER_FLAG, "true");
+	}
+
+}
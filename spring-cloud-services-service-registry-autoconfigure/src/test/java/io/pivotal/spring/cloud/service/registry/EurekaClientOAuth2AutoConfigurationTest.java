@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2024 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import org.junit.jupiter.api.Test;
@@ -26,11 +27,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.cloud.netflix.eureka.http.EurekaClientHttpRequestFactorySupplier.RequestConfigCustomizer;
 import org.springframework.http.HttpMethod;
 
+import io.pivotal.spring.cloud.oauth2.client.OAuth2AuthorizedClientHttpRequestFactory;
+
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.containing;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
@@ -100,6 +105,82 @@ public class EurekaClientOAuth2AutoConfigurationTest {
 		});
 	}
 
+	@Test
+	void bearerTokenIsAddedWithoutBufferingTheRequest() {
+		var pairs = applicationProperties("id", "secret");
+
+		stubTokenEndpoint();
+
+		this.contextRunner.withPropertyValues(pairs).run(context -> {
+			var supplier = context.getBean(EurekaClientOAuth2HttpRequestFactorySupplier.class);
+			assertThat(supplier.get(null, null)).isInstanceOf(OAuth2AuthorizedClientHttpRequestFactory.class);
+
+			callAnyEndpoint(context);
+
+			verify(getRequestedFor(urlEqualTo("/ping")).withHeader("Authorization", equalTo("Bearer access-token")));
+		});
+	}
+
+	@Test
+	void compressedResponsesAreRequested() {
+		var pairs = applicationProperties("id", "secret");
+
+		stubTokenEndpoint();
+
+		this.contextRunner.withPropertyValues(pairs).run(context -> {
+			callAnyEndpoint(context);
+
+			verify(getRequestedFor(urlEqualTo("/ping")).withHeader("Accept-Encoding", containing("gzip")));
+		});
+	}
+
+	@Test
+	void requestFactoryIsCreatedOncePerSslSettings() {
+		var pairs = applicationProperties("id", "secret");
+
+		this.contextRunner.withPropertyValues(pairs).run(context -> {
+			var supplier = context.getBean(EurekaClientOAuth2HttpRequestFactorySupplier.class);
+
+			assertThat(supplier.get(null, null)).isSameAs(supplier.get(null, null));
+			assertThat(supplier.get(null, (hostname, session) -> true)).isNotSameAs(supplier.get(null, null));
+		});
+	}
+
+	@Test
+	void requestConfigCustomizersAreApplied() {
+		var pairs = applicationProperties("id", "secret");
+		var customizations = new AtomicInteger();
+
+		this.contextRunner.withPropertyValues(pairs)
+			.withBean(RequestConfigCustomizer.class, () -> builder -> customizations.incrementAndGet())
+			.run(context -> {
+				var supplier = context.getBean(EurekaClientOAuth2HttpRequestFactorySupplier.class);
+				supplier.get(null, null);
+				supplier.get(null, null);
+
+				assertThat(customizations).hasValue(1);
+			});
+	}
+
+	@Test
+	void transportPropertiesAreBound() {
+		var pairs = applicationProperties("id", "secret");
+
+		this.contextRunner.withPropertyValues(pairs)
+			.withPropertyValues("scs.starters.eureka.client.transport.max-connections=10",
+					"scs.starters.eureka.client.transport.max-connections-per-route=5",
+					"scs.starters.eureka.client.transport.keep-alive=15s",
+					"scs.starters.eureka.client.transport.idle-timeout=5s")
+			.run(context -> {
+				var properties = context.getBean(EurekaClientTransportProperties.class);
+
+				assertThat(properties.getMaxConnections()).isEqualTo(10);
+				assertThat(properties.getMaxConnectionsPerRoute()).isEqualTo(5);
+				assertThat(properties.getKeepAlive()).hasSeconds(15);
+				assertThat(properties.getIdleTimeout()).hasSeconds(5);
+			});
+	}
+
 	private void stubTokenEndpoint() {
 		stubFor(post("/token/uri").withHost(equalTo("uaa.local"))
 			.willReturn(aResponse().withHeader("Content-Type", "application/json;charset=UTF-8").withBody("""
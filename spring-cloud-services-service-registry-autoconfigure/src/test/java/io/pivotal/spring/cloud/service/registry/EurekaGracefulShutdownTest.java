@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.EurekaInstanceConfig;
+import com.netflix.appinfo.HealthCheckHandler;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.EurekaClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EurekaGracefulShutdownTest {
+
+	@Mock
+	private EurekaClient eurekaClient;
+
+	@Mock
+	private ApplicationInfoManager applicationInfoManager;
+
+	@Mock
+	private EurekaInstanceConfig instanceConfig;
+
+	private final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+
+	private final EurekaGracefulShutdownProperties properties = new EurekaGracefulShutdownProperties();
+
+	@BeforeEach
+	public void setup() {
+		this.beanFactory.addBean("eurekaClient", this.eurekaClient);
+		this.properties.setDrainWindow(Duration.ofMillis(200));
+	}
+
+	@Test
+	public void instanceIsDeregisteredAndDrainedOnStop() {
+		var shutdown = shutdown();
+		shutdown.start();
+
+		var start = System.nanoTime();
+		shutdown.stop();
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+		verify(this.applicationInfoManager).setInstanceStatus(InstanceStatus.OUT_OF_SERVICE);
+		verify(this.eurekaClient).shutdown();
+		assertThat(shutdown.isRunning()).isFalse();
+	}
+
+	@Test
+	public void registrationIsNotCancelledWhileBackgroundRegistrationIsRunning() {
+		this.properties.setDrainWindow(Duration.ZERO);
+		this.beanFactory.addBean("eurekaAsyncRegistration",
+				new EurekaAsyncRegistration(this.beanFactory.getBeanProvider(EurekaClient.class),
+						this.applicationInfoManager, this.instanceConfig,
+						this.beanFactory.getBeanProvider(HealthCheckHandler.class), new MockEnvironment()));
+		var shutdown = shutdown();
+		shutdown.start();
+
+		shutdown.stop();
+
+		verify(this.applicationInfoManager).setInstanceStatus(InstanceStatus.OUT_OF_SERVICE);
+		verify(this.eurekaClient, never()).shutdown();
+	}
+
+	@Test
+	public void nothingIsDoneWhenNotStarted() {
+		shutdown().stop();
+
+		verify(this.applicationInfoManager, never()).setInstanceStatus(InstanceStatus.OUT_OF_SERVICE);
+		verify(this.eurekaClient, never()).shutdown();
+	}
+
+	private EurekaGracefulShutdown shutdown() {
+		return new EurekaGracefulShutdown(this.beanFactory.getBeanProvider(EurekaClient.class),
+				this.applicationInfoManager, this.beanFactory.getBeanProvider(EurekaAsyncRegistration.class),
+				this.properties);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2024 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,8 +21,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.cloud.netflix.eureka.EurekaInstanceConfigBean;
+import org.springframework.web.reactive.function.client.ClientRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -102,6 +104,7 @@ public class EurekaInstanceAutoConfigurationTest {
 				assertThat(config.getHostname()).isEqualTo(IP);
 				assertThat(config.getNonSecurePort()).isEqualTo(PORT);
 				assertThat(config.getSecurePortEnabled()).isFalse();
+				assertThat(config.getMetadataMap()).doesNotContainKey("cfInstanceInternalIp");
 			});
 	}
 
@@ -148,6 +151,22 @@ public class EurekaInstanceAutoConfigurationTest {
 			});
 	}
 
+	@Test
+	public void surgicalRoutingTransformersAreConfigured() {
+		this.contextRunner.run(context -> {
+			assertThat(context).hasSingleBean(SurgicalRoutingRequestTransformer.class);
+			assertThat(context).hasSingleBean(ReactiveSurgicalRoutingRequestTransformer.class);
+		});
+	}
+
+	@Test
+	public void reactiveSurgicalRoutingTransformerIsNotConfiguredWithoutWebFlux() {
+		this.contextRunner.withClassLoader(new FilteredClassLoader(ClientRequest.class)).run(context -> {
+			assertThat(context).hasSingleBean(SurgicalRoutingRequestTransformer.class);
+			assertThat(context).doesNotHaveBean(ReactiveSurgicalRoutingRequestTransformer.class);
+		});
+	}
+
 	private static void assertRouteRegistration(EurekaInstanceConfigBean config) {
 		assertThat(config.getInstanceId()).isEqualTo(HOSTNAME + ":" + INSTANCE_ID);
 		assertThat(config.getHostname()).isEqualTo(HOSTNAME);
@@ -160,6 +179,9 @@ public class EurekaInstanceAutoConfigurationTest {
 		assertThat(metadata.get("cfInstanceIndex")).isEqualTo(INSTANCE_INDEX);
 		assertThat(metadata.get("instanceId")).isEqualTo(INSTANCE_ID);
 		assertThat(metadata.get("zone")).isEqualTo(ZONE);
+		assertThat(Long.parseLong(metadata.get("startTime"))).isLessThanOrEqualTo(System.currentTimeMillis());
+		assertThat(metadata.get("cfInstanceInternalIp")).isEqualTo(IP);
+		assertThat(metadata.get("cfInstanceInternalPort")).isEqualTo(String.valueOf(PORT));
 	}
 
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EurekaLoadBalancerAutoConfigurationTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(EurekaLoadBalancerAutoConfiguration.class));
+
+	@Test
+	public void statisticsAreNotKeptByDefault() {
+		this.contextRunner.run(context -> assertThat(context).doesNotHaveBean(ServiceInstanceStatistics.class));
+	}
+
+	@Test
+	public void statisticsAreNotKeptForSlowStartAlone() {
+		this.contextRunner.withPropertyValues("scs.starters.eureka.client.loadbalancer.slow-start.window=2m")
+			.run(context -> assertThat(context).doesNotHaveBean(ServiceInstanceStatistics.class));
+	}
+
+	@Test
+	public void statisticsAreKeptForLeastInFlightStrategy() {
+		this.contextRunner.withPropertyValues("scs.starters.eureka.client.loadbalancer.strategy=least-in-flight")
+			.run(context -> assertThat(context).hasSingleBean(ServiceInstanceStatistics.class));
+	}
+
+	@Test
+	public void statisticsAreKeptWhenOutlierEjectionIsEnabled() {
+		this.contextRunner.withPropertyValues("scs.starters.eureka.client.loadbalancer.outlier-ejection.enabled=true")
+			.run(context -> assertThat(context).hasSingleBean(ServiceInstanceStatistics.class));
+	}
+
+	@Test
+	public void statisticsAreKeptWhenZonePreferenceIsEnabled() {
+		this.contextRunner.withPropertyValues("scs.starters.eureka.client.loadbalancer.zone-preference.enabled=true")
+			.run(context -> assertThat(context).hasSingleBean(ServiceInstanceStatistics.class));
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.List;
+import java.util.Map;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EurekaRegistryIndexTest {
+
+	@Mock
+	private EurekaClient eurekaClient;
+
+	private EurekaRegistryIndex index;
+
+	private final InstanceInfo first = instance("first-id", "guid-1", "0", "zone-a");
+
+	private final InstanceInfo second = instance("second-id", "guid-1", "1", "zone-b");
+
+	private final InstanceInfo third = instance("third-id", "guid-2", "0", "zone-a");
+
+	@BeforeEach
+	public void setup() {
+		var beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("eurekaClient", this.eurekaClient);
+		this.index = new EurekaRegistryIndex(beanFactory.getBeanProvider(EurekaClient.class));
+
+		var applications = new Applications();
+		applications.addApplication(new Application("APP", List.of(this.first, this.second, this.third)));
+		when(this.eurekaClient.getApplications()).thenReturn(applications);
+		this.index.onApplicationEvent(new HeartbeatEvent(this.eurekaClient, 1L));
+	}
+
+	@Test
+	public void instanceIsFoundByInstanceId() {
+		assertThat(this.index.getInstance("second-id")).isSameAs(this.second);
+		assertThat(this.index.getInstance("unknown")).isNull();
+	}
+
+	@Test
+	public void instanceIsFoundByAppGuidAndIndex() {
+		assertThat(this.index.getInstance("guid-1", "1")).isSameAs(this.second);
+		assertThat(this.index.getInstance("guid-1", "2")).isNull();
+	}
+
+	@Test
+	public void instancesAreFoundByAppGuid() {
+		assertThat(this.index.getInstances("guid-1")).containsExactlyInAnyOrder(this.first, this.second);
+		assertThat(this.index.getInstances("unknown")).isEmpty();
+	}
+
+	@Test
+	public void instancesAreFoundByAppAndZone() {
+		assertThat(this.index.getInstancesInZone("app", "zone-a")).containsExactlyInAnyOrder(this.first, this.third);
+		assertThat(this.index.getInstancesInZone("app", "zone-c")).isEmpty();
+	}
+
+	@Test
+	public void indexesAreRebuiltOnRegistryFetch() {
+		var applications = new Applications();
+		applications.addApplication(new Application("APP", List.of(this.first)));
+		when(this.eurekaClient.getApplications()).thenReturn(applications);
+
+		this.index.onApplicationEvent(new HeartbeatEvent(this.eurekaClient, 2L));
+
+		assertThat(this.index.getInstance("second-id")).isNull();
+		assertThat(this.index.getInstances("guid-1")).containsExactly(this.first);
+	}
+
+	private static InstanceInfo instance(String instanceId, String cfAppGuid, String cfInstanceIndex, String zone) {
+		return InstanceInfo.Builder.newBuilder()
+			.setAppName("APP")
+			.setInstanceId(instanceId)
+			.setHostName(instanceId + ".example.com")
+			.setMetadata(Map.of("instanceId", instanceId, "cfAppGuid", cfAppGuid, "cfInstanceIndex",
+					cfInstanceIndex, "zone", zone))
+			.build();
+	}
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.appinfo.InstanceInfo.PortType;
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EurekaRegistrySnapshotTest {
+
+	@Mock
+	private EurekaClient eurekaClient;
+
+	@TempDir
+	private Path directory;
+
+	private final EurekaRegistrySnapshotProperties properties = new EurekaRegistrySnapshotProperties();
+
+	private Path path;
+
+	@BeforeEach
+	public void setup() {
+		this.path = this.directory.resolve("registry.snapshot");
+	}
+
+	@Test
+	public void snapshotIsLoadedOnStartup() {
+		givenRegistry(instance("app-1", InstanceStatus.UP), instance("app-2", InstanceStatus.DOWN));
+		snapshot().onApplicationEvent(new HeartbeatEvent(this.eurekaClient, 1L));
+
+		var instances = snapshot().getInstances("APP");
+
+		assertThat(instances).singleElement().satisfies(instance -> {
+			assertThat(instance.getInstanceId()).isEqualTo("app-1");
+			assertThat(instance.getServiceId()).isEqualTo("app");
+			assertThat(instance.getHost()).isEqualTo("app-1.example.com");
+			assertThat(instance.getPort()).isEqualTo(443);
+			assertThat(instance.isSecure()).isTrue();
+			assertThat(instance.getMetadata()).containsEntry("zone", "zone-a");
+		});
+	}
+
+	@Test
+	public void instancesAreKeyedByVipAddress() {
+		givenRegistry(instance("app-1", InstanceStatus.UP, "app-vip,other-vip"));
+		snapshot().onApplicationEvent(new HeartbeatEvent(this.eurekaClient, 1L));
+		var snapshot = snapshot();
+
+		assertThat(snapshot.getInstances("app")).isEmpty();
+		assertThat(snapshot.getInstances("app-vip")).singleElement()
+			.satisfies(serviceInstance -> assertThat(serviceInstance.getServiceId()).isEqualTo("app-vip"));
+		assertThat(snapshot.getInstances("other-vip")).extracting(ServiceInstance::getInstanceId)
+			.containsExactly("app-1");
+	}
+
+	@Test
+	public void snapshotIsWrittenAtMostOncePerInterval() throws IOException {
+		givenRegistry(instance("app-1", InstanceStatus.UP));
+		var snapshot = snapshot();
+		snapshot.onApplicationEvent(new HeartbeatEvent(this.eurekaClient, 1L));
+		assertThat(this.path).exists();
+		Files.delete(this.path);
+
+		snapshot.onApplicationEvent(new HeartbeatEvent(this.eurekaClient, 2L));
+
+		assertThat(this.path).doesNotExist();
+	}
+
+	@Test
+	public void emptyRegistryIsNotWritten() {
+		when(this.eurekaClient.getApplications()).thenReturn(new Applications());
+
+		snapshot().onApplicationEvent(new HeartbeatEvent(this.eurekaClient, 1L));
+
+		assertThat(this.path).doesNotExist();
+	}
+
+	@Test
+	public void expiredSnapshotIsNotServed() {
+		givenRegistry(instance("app-1", InstanceStatus.UP));
+		snapshot().onApplicationEvent(new HeartbeatEvent(this.eurekaClient, 1L));
+		this.properties.setMaxAge(Duration.ZERO);
+
+		assertThat(snapshot().getInstances("app")).isEmpty();
+	}
+
+	@Test
+	public void unreadableSnapshotIsIgnored() throws IOException {
+		Files.writeString(this.path, "not a snapshot");
+
+		assertThat(snapshot().getInstances("app")).isEmpty();
+	}
+
+	@Test
+	public void snapshotIsServedWhileDelegateHasNoInstances() {
+		givenRegistry(instance("app-1", InstanceStatus.UP));
+		snapshot().onApplicationEvent(new HeartbeatEvent(this.eurekaClient, 1L));
+		var snapshot = snapshot();
+
+		var fetchedInstance = new DefaultServiceInstance("app-3", "app", "app-3.example.com", 443, true);
+		var notFetched = new SnapshotFallbackServiceInstanceListSupplier(ServiceInstanceListSuppliers.from("app"),
+				snapshot);
+		var fetched = new SnapshotFallbackServiceInstanceListSupplier(
+				ServiceInstanceListSuppliers.from("app", fetchedInstance), snapshot);
+
+		assertThat(notFetched.get().blockFirst()).extracting(ServiceInstance::getInstanceId).containsExactly("app-1");
+		assertThat(fetched.get().blockFirst()).containsExactly(fetchedInstance);
+	}
+
+	@Test
+	public void snapshotIsNotServedOnceRegistryIsFetched() {
+		givenRegistry(instance("app-1", InstanceStatus.UP));
+		snapshot().onApplicationEvent(new HeartbeatEvent(this.eurekaClient, 1L));
+		var snapshot = snapshot();
+		var supplier = new SnapshotFallbackServiceInstanceListSupplier(ServiceInstanceListSuppliers.from("app"),
+				snapshot);
+
+		snapshot.onApplicationEvent(new HeartbeatEvent(this.eurekaClient, 2L));
+
+		assertThat(supplier.get().blockFirst()).isEmpty();
+	}
+
+	@Test
+	public void defaultPathIsNamedAfterApplication() {
+		assertThat(EurekaRegistrySnapshot.defaultPath("my app").getFileName())
+			.hasToString("scs-eureka-registry-my_app.snapshot");
+		assertThat(EurekaRegistrySnapshot.defaultPath("other-app"))
+			.isNotEqualTo(EurekaRegistrySnapshot.defaultPath("app"));
+	}
+
+	private EurekaRegistrySnapshot snapshot() {
+		var beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("eurekaClient", this.eurekaClient);
+		return new EurekaRegistrySnapshot(beanFactory.getBeanProvider(EurekaClient.class), this.properties, this.path);
+	}
+
+	private void givenRegistry(InstanceInfo... instances) {
+		var applications = new Applications();
+		applications.addApplication(new Application("APP", List.of(instances)));
+		when(this.eurekaClient.getApplications()).thenReturn(applications);
+	}
+
+	private static InstanceInfo instance(String instanceId, InstanceStatus status) {
+		return instance(instanceId, status, "app");
+	}
+
+	private static InstanceInfo instance(String instanceId, InstanceStatus status, String vipAddress) {
+		return InstanceInfo.Builder.newBuilder()
+			.setAppName("APP")
+			.setVIPAddress(vipAddress)
+			.setInstanceId(instanceId)
+			.setHostName(instanceId + ".example.com")
+			.setStatus(status)
+			.setPort(80)
+			.setSecurePort(443)
+			.enablePort(PortType.SECURE, true)
+			.setMetadata(Map.of("zone", "zone-a"))
+			.build();
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EurekaWarmUpRegistrationTest {
+
+	@Mock
+	private ApplicationInfoManager applicationInfoManager;
+
+	private final EurekaWarmUpProperties properties = new EurekaWarmUpProperties();
+
+	@BeforeEach
+	public void setup() {
+		this.properties.setDeadline(Duration.ofMillis(500));
+	}
+
+	@Test
+	public void instanceIsMarkedUpAfterWarmUp() throws Exception {
+		givenStatus(InstanceStatus.STARTING);
+		var warmedUp = new CountDownLatch(1);
+
+		registration(warmedUp::countDown).start().get(5, TimeUnit.SECONDS);
+
+		assertThat(warmedUp.getCount()).isZero();
+		verify(this.applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+	}
+
+	@Test
+	public void instanceIsMarkedUpWhenDeadlinePasses() throws Exception {
+		givenStatus(InstanceStatus.STARTING);
+		var interrupted = new CountDownLatch(1);
+
+		registration(() -> {
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException ex) {
+				interrupted.countDown();
+				throw ex;
+			}
+		}).start().get(5, TimeUnit.SECONDS);
+
+		verify(this.applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void instanceIsMarkedUpWhenWarmUpFails() throws Exception {
+		givenStatus(InstanceStatus.STARTING);
+
+		registration(() -> {
+			throw new IllegalStateException("boom");
+		}).start().get(5, TimeUnit.SECONDS);
+
+		verify(this.applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+	}
+
+	@Test
+	public void statusChangedDuringWarmUpIsLeftAlone() throws Exception {
+		givenStatus(InstanceStatus.OUT_OF_SERVICE);
+
+		registration(() -> {
+		}).start().get(5, TimeUnit.SECONDS);
+
+		verify(this.applicationInfoManager, never()).setInstanceStatus(InstanceStatus.UP);
+	}
+
+	private EurekaWarmUpRegistration registration(EurekaInstanceWarmUp warmUp) {
+		return new EurekaWarmUpRegistration(this.applicationInfoManager, this.properties, List.of(warmUp),
+				new MockEnvironment());
+	}
+
+	private void givenStatus(InstanceStatus status) {
+		var instanceInfo = InstanceInfo.Builder.newBuilder().setAppName("app").setStatus(status).build();
+		when(this.applicationInfoManager.getInfo()).thenReturn(instanceInfo);
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HedgingClientHttpRequestFactoryTest {
+
+	private static final String PEER_1 = "https://registry-1.example.com/eureka/";
+
+	private static final String PEER_2 = "https://registry-2.example.com/eureka/";
+
+	private static final String PEER_3 = "https://registry-3.example.com/eureka/";
+
+	private final EurekaClientTransportProperties.Hedging properties = new EurekaClientTransportProperties.Hedging();
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@BeforeEach
+	public void setup() {
+		this.properties.setEnabled(true);
+		this.properties.setMinDelay(Duration.ofMillis(10));
+		this.properties.setMaxDelay(Duration.ofMillis(100));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	public void slowReadIsHedgedToAnotherRegistryServer() throws IOException {
+		var factory = factory((uri, method) -> new DelayedRequest(method, uri,
+				uri.toString().startsWith(PEER_1) ? Duration.ofSeconds(5) : Duration.ZERO));
+
+		try (var response = factory.createRequest(URI.create(PEER_1 + "apps/"), HttpMethod.GET).execute()) {
+			assertThat(response.getBody()).asString(StandardCharsets.UTF_8).isEqualTo(PEER_2 + "apps/");
+		}
+	}
+
+	@Test
+	public void fastReadIsNotHedged() throws IOException {
+		var factory = factory((uri, method) -> new DelayedRequest(method, uri,
+				uri.toString().startsWith(PEER_1) ? Duration.ZERO : Duration.ofSeconds(5)));
+
+		try (var response = factory.createRequest(URI.create(PEER_1 + "apps/"), HttpMethod.GET).execute()) {
+			assertThat(response.getBody()).asString(StandardCharsets.UTF_8).isEqualTo(PEER_1 + "apps/");
+		}
+	}
+
+	@Test
+	public void writesAreNotHedged() throws IOException {
+		var factory = factory((uri, method) -> new DelayedRequest(method, uri, Duration.ZERO));
+
+		var request = factory.createRequest(URI.create(PEER_1 + "apps/APP"), HttpMethod.POST);
+
+		assertThat(request).isInstanceOf(DelayedRequest.class);
+	}
+
+	@Test
+	public void readsHedgedToTheRegistryServerWithTheLowestLatency() {
+		var factory = factory((uri, method) -> new DelayedRequest(method, uri, Duration.ZERO));
+		factory.record(PEER_2, TimeUnit.MILLISECONDS.toNanos(80));
+		factory.record(PEER_3, TimeUnit.MILLISECONDS.toNanos(20));
+
+		assertThat(factory.hedgePeer(PEER_1, List.of(PEER_1, PEER_2, PEER_3))).isEqualTo(PEER_3);
+		assertThat(factory.hedgePeer(PEER_3, List.of(PEER_1, PEER_2, PEER_3))).isEqualTo(PEER_1);
+	}
+
+	@Test
+	public void hedgeDelayIsThePercentileOfTheObservedLatencies() {
+		var factory = factory((uri, method) -> new DelayedRequest(method, uri, Duration.ZERO));
+		assertThat(factory.hedgeDelay(PEER_1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+		for (int i = 1; i <= 20; i++) {
+			factory.record(PEER_1, TimeUnit.MILLISECONDS.toNanos(i * 2));
+		}
+		assertThat(factory.hedgeDelay(PEER_1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(36));
+
+		for (int i = 1; i <= 20; i++) {
+			factory.record(PEER_2, TimeUnit.MILLISECONDS.toNanos(i * 20));
+		}
+		assertThat(factory.hedgeDelay(PEER_2)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+	}
+
+	private HedgingClientHttpRequestFactory factory(ClientHttpRequestFactory delegate) {
+		return new HedgingClientHttpRequestFactory(delegate, () -> List.of(PEER_1, PEER_2), this.properties,
+				this.executor);
+	}
+
+	private static final class DelayedRequest extends MockClientHttpRequest {
+
+		private final Duration delay;
+
+		DelayedRequest(HttpMethod method, URI uri, Duration delay) {
+			super(method, uri);
+			this.delay = delay;
+		}
+
+		@Override
+		protected ClientHttpResponse executeInternal() throws IOException {
+			try {
+				Thread.sleep(this.delay.toMillis());
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return new MockClientHttpResponse(getURI().toString().getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+		}
+
+	}
+
+}
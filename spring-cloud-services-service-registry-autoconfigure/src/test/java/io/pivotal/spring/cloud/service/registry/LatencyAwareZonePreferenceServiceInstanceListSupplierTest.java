@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.config.LoadBalancerZoneConfig;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import static io.pivotal.spring.cloud.service.registry.ServiceInstanceStatisticsTest.instance;
+import static io.pivotal.spring.cloud.service.registry.ServiceInstanceStatisticsTest.recordRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyAwareZonePreferenceServiceInstanceListSupplierTest {
+
+	private final ServiceInstanceStatistics statistics = new ServiceInstanceStatistics();
+
+	private final ServiceInstance local1 = instance("local-1", "west");
+
+	private final ServiceInstance local2 = instance("local-2", "west");
+
+	private final ServiceInstance remote = instance("remote-1", "east");
+
+	@Test
+	public void localInstancesArePreferred() {
+		assertThat(supplier(1).get().blockFirst()).containsExactly(this.local1, this.local2);
+	}
+
+	@Test
+	public void allInstancesAreUsedWhenTooFewLocalInstances() {
+		assertThat(supplier(3).get().blockFirst()).containsExactly(this.local1, this.local2, this.remote);
+	}
+
+	@Test
+	public void allInstancesAreUsedWhenLocalInstancesAreSlow() {
+		recordRequest(this.statistics, this.local1, 500);
+		recordRequest(this.statistics, this.local2, 300);
+		recordRequest(this.statistics, this.remote, 100);
+
+		assertThat(supplier(1).get().blockFirst()).containsExactly(this.local1, this.local2, this.remote);
+	}
+
+	@Test
+	public void localInstancesArePreferredWhenNotMuchSlower() {
+		recordRequest(this.statistics, this.local1, 150);
+		recordRequest(this.statistics, this.remote, 100);
+
+		assertThat(supplier(1).get().blockFirst()).containsExactly(this.local1, this.local2);
+	}
+
+	private LatencyAwareZonePreferenceServiceInstanceListSupplier supplier(int minInstances) {
+		return new LatencyAwareZonePreferenceServiceInstanceListSupplier(
+				ServiceInstanceListSuppliers.from("app", this.local1, this.local2, this.remote),
+				new LoadBalancerZoneConfig("west"), this.statistics, minInstances, 2.0);
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import static io.pivotal.spring.cloud.service.registry.ServiceInstanceStatisticsTest.instance;
+import static io.pivotal.spring.cloud.service.registry.ServiceInstanceStatisticsTest.startRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LeastInFlightLoadBalancerTest {
+
+	private final ServiceInstanceStatistics statistics = new ServiceInstanceStatistics();
+
+	@Test
+	public void instanceWithFewerRequestsInFlightIsChosen() {
+		var busy = instance("busy", "zone");
+		var idle = instance("idle", "zone");
+		for (int i = 0; i < 5; i++) {
+			startRequest(this.statistics, busy, 0);
+		}
+		var loadBalancer = loadBalancer(busy, idle);
+
+		for (int i = 0; i < 20; i++) {
+			var response = loadBalancer.choose(new DefaultRequest<>()).block();
+			assertThat(response.getServer()).isEqualTo(idle);
+		}
+	}
+
+	@Test
+	public void noInstanceIsChosenWhenNoneAvailable() {
+		var response = loadBalancer().choose(new DefaultRequest<>()).block();
+
+		assertThat(response.hasServer()).isFalse();
+	}
+
+	private LeastInFlightLoadBalancer loadBalancer(ServiceInstance... instances) {
+		var beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("supplier", ServiceInstanceListSuppliers.from("app", instances));
+		return new LeastInFlightLoadBalancer(beanFactory.getBeanProvider(ServiceInstanceListSupplier.class), "app",
+				this.statistics);
+	}
+
+}
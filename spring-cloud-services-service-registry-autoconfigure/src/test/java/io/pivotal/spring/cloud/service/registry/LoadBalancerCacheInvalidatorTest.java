@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.loadbalancer.cache.LoadBalancerCacheManager;
+import org.springframework.cloud.loadbalancer.core.CachingServiceInstanceListSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LoadBalancerCacheInvalidatorTest {
+
+	@Mock
+	private EurekaClient eurekaClient;
+
+	@Mock
+	private LoadBalancerCacheManager cacheManager;
+
+	private final ConcurrentMapCache cache = new ConcurrentMapCache(
+			CachingServiceInstanceListSupplier.SERVICE_INSTANCE_CACHE_NAME);
+
+	private LoadBalancerCacheInvalidator invalidator;
+
+	@BeforeEach
+	public void setup() {
+		var beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("eurekaClient", this.eurekaClient);
+		beanFactory.addBean("cacheManager", this.cacheManager);
+		this.invalidator = new LoadBalancerCacheInvalidator(beanFactory.getBeanProvider(EurekaClient.class),
+				beanFactory.getBeanProvider(LoadBalancerCacheManager.class));
+	}
+
+	@Test
+	public void cacheIsClearedWhenRegistryChanges() {
+		when(this.cacheManager.getCache(CachingServiceInstanceListSupplier.SERVICE_INSTANCE_CACHE_NAME))
+			.thenReturn(this.cache);
+		givenRegistry(instance("app-1", InstanceStatus.UP));
+		heartbeat();
+		this.cache.put("app", "instances");
+
+		givenRegistry(instance("app-1", InstanceStatus.UP), instance("app-2", InstanceStatus.UP));
+		heartbeat();
+
+		assertThat(this.cache.get("app")).isNull();
+	}
+
+	@Test
+	public void cacheIsClearedWhenInstanceIsReplacedWithSameStatusCounts() {
+		when(this.cacheManager.getCache(CachingServiceInstanceListSupplier.SERVICE_INSTANCE_CACHE_NAME))
+			.thenReturn(this.cache);
+		givenRegistry(instance("app-1", InstanceStatus.UP));
+		heartbeat();
+		this.cache.put("app", "instances");
+
+		givenRegistry(instance("app-2", InstanceStatus.UP));
+		heartbeat();
+
+		assertThat(this.cache.get("app")).isNull();
+	}
+
+	@Test
+	public void cacheOfUnchangedApplicationsIsKept() {
+		when(this.cacheManager.getCache(CachingServiceInstanceListSupplier.SERVICE_INSTANCE_CACHE_NAME))
+			.thenReturn(this.cache);
+		givenRegistry(instance("app-1", InstanceStatus.UP), instance("other-1", "OTHER", "other-vip"));
+		heartbeat();
+		this.cache.put("app", "instances");
+		this.cache.put("other-vip", "instances");
+
+		givenRegistry(instance("app-1", InstanceStatus.DOWN), instance("other-1", "OTHER", "other-vip"));
+		heartbeat();
+
+		assertThat(this.cache.get("app")).isNull();
+		assertThat(this.cache.get("other-vip")).isNotNull();
+	}
+
+	@Test
+	public void applicationIsEvictedByVipAddressWhenRemoved() {
+		when(this.cacheManager.getCache(CachingServiceInstanceListSupplier.SERVICE_INSTANCE_CACHE_NAME))
+			.thenReturn(this.cache);
+		givenRegistry(instance("app-1", InstanceStatus.UP), instance("other-1", "OTHER", "other-vip"));
+		heartbeat();
+		this.cache.put("other-vip", "instances");
+
+		givenRegistry(instance("app-1", InstanceStatus.UP));
+		heartbeat();
+
+		assertThat(this.cache.get("other-vip")).isNull();
+	}
+
+	@Test
+	public void cacheIsKeptWhenRegistryIsUnchanged() {
+		when(this.cacheManager.getCache(CachingServiceInstanceListSupplier.SERVICE_INSTANCE_CACHE_NAME))
+			.thenReturn(this.cache);
+		givenRegistry(instance("app-1", InstanceStatus.UP));
+		heartbeat();
+		this.cache.put("app", "instances");
+
+		givenRegistry(instance("app-1", InstanceStatus.UP));
+		heartbeat();
+
+		assertThat(this.cache.get("app")).isNotNull();
+	}
+
+	private void heartbeat() {
+		this.invalidator.onApplicationEvent(new HeartbeatEvent(this.eurekaClient, 1L));
+	}
+
+	private void givenRegistry(InstanceInfo... instances) {
+		var applications = new Applications();
+		Stream.of(instances)
+			.collect(Collectors.groupingBy(InstanceInfo::getAppName))
+			.forEach((appName, appInstances) -> applications.addApplication(new Application(appName, appInstances)));
+		when(this.eurekaClient.getApplications()).thenReturn(applications);
+	}
+
+	private static InstanceInfo instance(String instanceId, InstanceStatus status) {
+		return InstanceInfo.Builder.newBuilder()
+			.setAppName("APP")
+			.setInstanceId(instanceId)
+			.setHostName(instanceId + ".example.com")
+			.setStatus(status)
+			.build();
+	}
+
+	private static InstanceInfo instance(String instanceId, String appName, String vipAddress) {
+		return InstanceInfo.Builder.newBuilder()
+			.setAppName(appName)
+			.setInstanceId(instanceId)
+			.setHostName(instanceId + ".example.com")
+			.setVIPAddress(vipAddress)
+			.setStatus(InstanceStatus.UP)
+			.build();
+	}
+
+}
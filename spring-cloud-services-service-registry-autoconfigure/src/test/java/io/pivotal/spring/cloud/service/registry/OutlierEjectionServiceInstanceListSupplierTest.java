@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import io.pivotal.spring.cloud.service.registry.EurekaLoadBalancerProperties.OutlierEjection;
+
+import static io.pivotal.spring.cloud.service.registry.ServiceInstanceStatisticsTest.completeRequest;
+import static io.pivotal.spring.cloud.service.registry.ServiceInstanceStatisticsTest.instance;
+import static io.pivotal.spring.cloud.service.registry.ServiceInstanceStatisticsTest.recordRequest;
+import static io.pivotal.spring.cloud.service.registry.ServiceInstanceStatisticsTest.startRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class OutlierEjectionServiceInstanceListSupplierTest {
+
+	private final ServiceInstanceStatistics statistics = new ServiceInstanceStatistics();
+
+	private final OutlierEjection outlierEjection = new OutlierEjection();
+
+	private final ServiceInstance instance1 = instance("app-1", "zone");
+
+	private final ServiceInstance instance2 = instance("app-2", "zone");
+
+	private final ServiceInstance instance3 = instance("app-3", "zone");
+
+	private final ServiceInstance instance4 = instance("app-4", "zone");
+
+	@BeforeEach
+	public void setup() {
+		this.outlierEjection.setConsecutiveFailures(3);
+		this.outlierEjection.setMinimumRequests(5);
+	}
+
+	@Test
+	public void instanceFailingConsecutivelyIsEjected() {
+		fail(this.instance2, 3);
+
+		assertThat(supplier().get().blockFirst()).containsExactly(this.instance1, this.instance3, this.instance4);
+		assertThat(this.statistics.getHealth(this.instance2).ejected()).isTrue();
+	}
+
+	@Test
+	public void slowInstanceIsEjected() {
+		for (int i = 0; i < 5; i++) {
+			recordRequest(this.statistics, this.instance1, 10);
+			recordRequest(this.statistics, this.instance2, 10);
+			recordRequest(this.statistics, this.instance3, 500);
+			recordRequest(this.statistics, this.instance4, 10);
+		}
+
+		assertThat(supplier().get().blockFirst()).containsExactly(this.instance1, this.instance2, this.instance4);
+	}
+
+	@Test
+	public void noMoreThanMaxEjectionPercentIsEjected() {
+		fail(this.instance1, 3);
+		fail(this.instance2, 3);
+		fail(this.instance3, 3);
+
+		assertThat(supplier().get().blockFirst()).containsExactly(this.instance3, this.instance4);
+	}
+
+	@Test
+	public void ejectedInstanceIsReadmittedAfterCooldown() {
+		this.outlierEjection.setCooldown(Duration.ofMillis(100));
+		var supplier = supplier();
+		fail(this.instance2, 3);
+
+		assertThat(supplier.get().blockFirst()).doesNotContain(this.instance2);
+		await().untilAsserted(() -> assertThat(supplier.get().blockFirst()).contains(this.instance2));
+		assertThat(this.statistics.getHealth(this.instance2).consecutiveFailures()).isZero();
+	}
+
+	@Test
+	public void averageLatencyIsKeptWhenInstanceIsReadmitted() {
+		this.outlierEjection.setCooldown(Duration.ofMillis(100));
+		var supplier = supplier();
+		fail(this.instance2, 3);
+		var averageLatency = this.statistics.getAverageLatency(this.instance2);
+
+		assertThat(supplier.get().blockFirst()).doesNotContain(this.instance2);
+		await().untilAsserted(() -> assertThat(supplier.get().blockFirst()).contains(this.instance2));
+		assertThat(averageLatency).isPositive();
+		assertThat(this.statistics.getAverageLatency(this.instance2)).isEqualTo(averageLatency);
+	}
+
+	@Test
+	public void ejectionBacksOffWhenInstanceFailsAgainAfterReadmission() {
+		this.outlierEjection.setCooldown(Duration.ofMillis(200));
+		var supplier = supplier();
+		fail(this.instance2, 3);
+		assertThat(supplier.get().blockFirst()).doesNotContain(this.instance2);
+		await().untilAsserted(() -> assertThat(supplier.get().blockFirst()).contains(this.instance2));
+
+		recordRequest(this.statistics, this.instance2, 10);
+		fail(this.instance2, 1);
+		recordRequest(this.statistics, this.instance2, 10);
+		fail(this.instance2, 3);
+
+		assertThat(supplier.get().blockFirst()).doesNotContain(this.instance2);
+		// Ejected for twice the cooldown
+		await().during(Duration.ofMillis(300))
+			.atMost(Duration.ofSeconds(1))
+			.untilAsserted(() -> assertThat(supplier.get().blockFirst()).doesNotContain(this.instance2));
+		await().untilAsserted(() -> assertThat(supplier.get().blockFirst()).contains(this.instance2));
+	}
+
+	@Test
+	public void instanceBehindRouterIsIdentifiedBySurgicalRoutingMetadata() {
+		var routed1 = routedInstance("1");
+		var routed2 = routedInstance("2");
+		fail(routed1, 3);
+		var supplier = new OutlierEjectionServiceInstanceListSupplier(
+				ServiceInstanceListSuppliers.from("app", routed1, routed2), this.statistics, this.outlierEjection);
+
+		assertThat(supplier.get().blockFirst()).containsExactly(routed2);
+	}
+
+	private OutlierEjectionServiceInstanceListSupplier supplier() {
+		return new OutlierEjectionServiceInstanceListSupplier(ServiceInstanceListSuppliers.from("app", this.instance1,
+				this.instance2, this.instance3, this.instance4), this.statistics, this.outlierEjection);
+	}
+
+	private void fail(ServiceInstance instance, int times) {
+		for (int i = 0; i < times; i++) {
+			completeRequest(this.statistics, startRequest(this.statistics, instance, 10),
+					CompletionContext.Status.FAILED);
+		}
+	}
+
+	private static ServiceInstance routedInstance(String index) {
+		return new DefaultServiceInstance(null, "app", "app.example.com", 443, true,
+				Map.of("cfAppGuid", "guid", "cfInstanceIndex", index));
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.net.URI;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancerClientRequestTransformer;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+
+import static io.pivotal.spring.cloud.service.registry.SurgicalRoutingRequestTransformer.CF_APP_GUID;
+import static io.pivotal.spring.cloud.service.registry.SurgicalRoutingRequestTransformer.CF_INSTANCE_INDEX;
+import static io.pivotal.spring.cloud.service.registry.SurgicalRoutingRequestTransformer.SURGICAL_ROUTING_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveSurgicalRoutingRequestTransformerTest {
+
+	private final LoadBalancerClientRequestTransformer transformer = new ReactiveSurgicalRoutingRequestTransformer();
+
+	private final ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("https://app.example.com"))
+		.header("Accept", "text/plain", "text/html")
+		.build();
+
+	@Mock
+	private ServiceInstance instance;
+
+	@Test
+	public void headerIsSetWhenMetadataPresent() {
+		var metadata = Map.of(CF_APP_GUID, "::guid::", CF_INSTANCE_INDEX, "::index::");
+		when(this.instance.getMetadata()).thenReturn(metadata);
+
+		var transformedRequest = this.transformer.transformRequest(this.request, this.instance);
+
+		assertThat(transformedRequest.headers().get("Accept")).contains("text/plain", "text/html");
+		assertThat(transformedRequest.headers().getFirst(SURGICAL_ROUTING_HEADER))
+			.isEqualTo("::guid::" + ":" + "::index::");
+	}
+
+	@Test
+	public void headerIsNotSetWhenAppGuidNotPresentInMetadata() {
+		var metadata = Map.of(CF_INSTANCE_INDEX, "::index::");
+		when(this.instance.getMetadata()).thenReturn(metadata);
+
+		var transformedRequest = this.transformer.transformRequest(this.request, this.instance);
+
+		assertThat(transformedRequest).isSameAs(this.request);
+	}
+
+	@Test
+	public void headerIsNotSetWhenServiceInstanceIsNull() {
+		var transformedRequest = this.transformer.transformRequest(this.request, null);
+
+		assertThat(transformedRequest).isSameAs(this.request);
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RendezvousHashLoadBalancerTest {
+
+	private final List<ServiceInstance> instances = List.of(routedInstance("0"), routedInstance("1"),
+			routedInstance("2"), routedInstance("3"));
+
+	@Test
+	public void sameKeyIsRoutedToSameInstance() {
+		var loadBalancer = loadBalancer(this.instances);
+
+		var chosen = choose(loadBalancer, "/carts/42", "user-1");
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(choose(loadBalancer, "/carts/7", "user-1")).isEqualTo(chosen);
+		}
+	}
+
+	@Test
+	public void pathTemplateVariablesAreUsedWithoutHeader() {
+		var loadBalancer = loadBalancer(this.instances);
+
+		var chosen = choose(loadBalancer, "/carts/42/items", null);
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(choose(loadBalancer, "/carts/42/total", null)).isEqualTo(chosen);
+		}
+	}
+
+	@Test
+	public void onlyKeysOfRemovedInstanceMove() {
+		var loadBalancer = loadBalancer(this.instances);
+		var keys = new ArrayList<String>();
+		var chosen = new ArrayList<ServiceInstance>();
+		for (int i = 0; i < 100; i++) {
+			keys.add("user-" + i);
+			chosen.add(choose(loadBalancer, "/", keys.get(i)));
+		}
+		assertThat(chosen).containsAll(this.instances);
+
+		var removed = this.instances.get(1);
+		var remaining = new ArrayList<>(this.instances);
+		remaining.remove(removed);
+		var reducedLoadBalancer = loadBalancer(remaining);
+
+		for (int i = 0; i < keys.size(); i++) {
+			var rechosen = choose(reducedLoadBalancer, "/", keys.get(i));
+			if (!chosen.get(i).equals(removed)) {
+				assertThat(rechosen).isEqualTo(chosen.get(i));
+			}
+		}
+	}
+
+	private static ServiceInstance choose(RendezvousHashLoadBalancer loadBalancer, String path, String key) {
+		var request = new MockClientHttpRequest(HttpMethod.GET, URI.create("https://app.example.com" + path));
+		if (key != null) {
+			request.getHeaders().add("X-Key", key);
+		}
+		var response = loadBalancer.choose(new DefaultRequest<>(new RequestDataContext(new RequestData(request))))
+			.block();
+		return response.getServer();
+	}
+
+	private static RendezvousHashLoadBalancer loadBalancer(List<ServiceInstance> instances) {
+		var beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("supplier",
+				ServiceInstanceListSuppliers.from("app", instances.toArray(new ServiceInstance[0])));
+		return new RendezvousHashLoadBalancer(beanFactory.getBeanProvider(ServiceInstanceListSupplier.class), "app",
+				"X-Key", "/carts/{cartId}/**");
+	}
+
+	private static ServiceInstance routedInstance(String index) {
+		return new DefaultServiceInstance("app-" + index, "app", "app.example.com", 443, true,
+				Map.of("cfAppGuid", "guid", "cfInstanceIndex", index));
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.discovery.simple.SimpleDiscoveryClient;
+import org.springframework.cloud.client.discovery.simple.SimpleDiscoveryProperties;
+import org.springframework.cloud.commons.util.InetUtils;
+import org.springframework.cloud.commons.util.InetUtilsProperties;
+import org.springframework.cloud.loadbalancer.config.LoadBalancerAutoConfiguration;
+import org.springframework.cloud.loadbalancer.config.LoadBalancerZoneConfig;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.cloud.netflix.eureka.EurekaInstanceConfigBean;
+import org.springframework.cloud.netflix.eureka.loadbalancer.LoadBalancerEurekaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScsLoadBalancerClientConfigurationTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+		.withUserConfiguration(SupplierConfiguration.class, ScsLoadBalancerClientConfiguration.class);
+
+	@Test
+	public void supplierIsNotDecoratedByDefault() {
+		this.contextRunner.run(context -> assertThat(context.getBean(ServiceInstanceListSupplier.class))
+			.isNotInstanceOf(DirectRoutingServiceInstanceListSupplier.class));
+	}
+
+	@Test
+	public void supplierIsDecoratedWhenDirectRoutingIsEnabled() {
+		this.contextRunner.withPropertyValues("scs.starters.eureka.client.loadbalancer.direct-routing.enabled=true")
+			.run(context -> {
+				var supplier = context.getBean(ServiceInstanceListSupplier.class);
+				assertThat(supplier).isInstanceOf(DirectRoutingServiceInstanceListSupplier.class);
+				assertThat(supplier.getServiceId()).isEqualTo("app");
+			});
+	}
+
+	@Test
+	public void supplierIsDecoratedWhenZonePreferenceIsEnabled() {
+		this.contextRunner
+			.withPropertyValues("scs.starters.eureka.client.loadbalancer.zone-preference.enabled=true",
+					"scs.starters.eureka.client.loadbalancer.direct-routing.enabled=true")
+			.withBean(ServiceInstanceStatistics.class)
+			.withBean(LoadBalancerZoneConfig.class, () -> new LoadBalancerZoneConfig("zone"))
+			.run(context -> {
+				var supplier = context.getBean(ServiceInstanceListSupplier.class);
+				assertThat(supplier).isInstanceOf(DirectRoutingServiceInstanceListSupplier.class);
+				assertThat(((DelegatingServiceInstanceListSupplier) supplier).getDelegate())
+					.isInstanceOf(LatencyAwareZonePreferenceServiceInstanceListSupplier.class);
+			});
+	}
+
+	@Test
+	public void loadBalancerIsNotProvidedByDefault() {
+		this.contextRunner.run(context -> assertThat(context).doesNotHaveBean(ReactorLoadBalancer.class));
+	}
+
+	@Test
+	public void leastInFlightLoadBalancerIsProvidedWhenConfigured() {
+		this.contextRunner
+			.withPropertyValues("scs.starters.eureka.client.loadbalancer.strategy=least-in-flight",
+					"loadbalancer.client.name=app")
+			.withBean(ServiceInstanceStatistics.class)
+			.withBean(LoadBalancerClientFactory.class, () -> new LoadBalancerClientFactory(null))
+			.run(context -> assertThat(context).getBean(ReactorLoadBalancer.class)
+				.isInstanceOf(LeastInFlightLoadBalancer.class));
+	}
+
+	@Test
+	public void slowStartLoadBalancerIsProvidedWhenWindowIsSet() {
+		this.contextRunner
+			.withPropertyValues("scs.starters.eureka.client.loadbalancer.slow-start.window=2m",
+					"loadbalancer.client.name=app")
+			.withBean(LoadBalancerClientFactory.class, () -> new LoadBalancerClientFactory(null))
+			.run(context -> assertThat(context).getBean(ReactorLoadBalancer.class)
+				.isInstanceOf(SlowStartLoadBalancer.class));
+	}
+
+	@Test
+	public void slowStartMinWeightOutOfRangeIsRejected() {
+		this.contextRunner.withPropertyValues("scs.starters.eureka.client.loadbalancer.slow-start.min-weight=1.5")
+			.run(context -> assertThat(context).hasFailed());
+	}
+
+	@Test
+	public void supplierIsDecoratedAlongsideSpringCloudNetflixConfiguration() {
+		new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(LoadBalancerAutoConfiguration.class,
+					LoadBalancerEurekaAutoConfiguration.class, EurekaLoadBalancerAutoConfiguration.class))
+			.withBean(SimpleDiscoveryClient.class, ScsLoadBalancerClientConfigurationTest::discoveryClient)
+			.withBean(EurekaInstanceConfigBean.class, ScsLoadBalancerClientConfigurationTest::instanceConfig)
+			.withPropertyValues("scs.starters.eureka.client.loadbalancer.direct-routing.enabled=true")
+			.run(context -> {
+				var loadBalancerClientFactory = context.getBean(LoadBalancerClientFactory.class);
+
+				var supplier = loadBalancerClientFactory.getInstance("app", ServiceInstanceListSupplier.class);
+
+				assertThat(supplier).isInstanceOf(DirectRoutingServiceInstanceListSupplier.class);
+				assertThat(supplier.get().blockFirst()).extracting(instance -> instance.getInstanceId())
+					.containsExactly("app-1");
+				// Set from the instance metadata by the configuration of Spring Cloud Netflix
+				assertThat(context.getBean(LoadBalancerZoneConfig.class).getZone()).isEqualTo("zone-a");
+			});
+	}
+
+	private static SimpleDiscoveryClient discoveryClient() {
+		var properties = new SimpleDiscoveryProperties();
+		properties.setInstances(
+				Map.of("app", List.of(new DefaultServiceInstance("app-1", "app", "app.example.com", 443, true))));
+		return new SimpleDiscoveryClient(properties);
+	}
+
+	private static EurekaInstanceConfigBean instanceConfig() {
+		var instanceConfig = new EurekaInstanceConfigBean(new InetUtils(new InetUtilsProperties()));
+		instanceConfig.getMetadataMap().put("zone", "zone-a");
+		return instanceConfig;
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableConfigurationProperties(EurekaLoadBalancerProperties.class)
+	static class SupplierConfiguration {
+
+		@Bean
+		ServiceInstanceListSupplier serviceInstanceListSupplier() {
+			return ServiceInstanceListSuppliers.from("app",
+					new DefaultServiceInstance("app-1", "app", "app.example.com", 443, true));
+		}
+
+	}
+
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Application;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.netflix.eureka.EurekaClientConfigBean;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.notFound;
+import static com.github.tomakehurst.wiremock.client.WireMock.serverError;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WireMockTest
+public class SelectiveEurekaRegistryTest {
+
+	private final EurekaClientConfigBean clientConfig = new EurekaClientConfigBean();
+
+	private final EurekaSelectiveFetchProperties properties = new EurekaSelectiveFetchProperties();
+
+	private final List<Object> events = new CopyOnWriteArrayList<>();
+
+	private SelectiveEurekaRegistry registry;
+
+	@BeforeEach
+	public void setup(WireMockRuntimeInfo wireMock) {
+		this.clientConfig.setServiceUrl(Map.of("defaultZone", wireMock.getHttpBaseUrl() + "/eureka/"));
+		this.registry = new SelectiveEurekaRegistry(this.clientConfig, this.properties,
+				new JdkClientHttpRequestFactory(), this.events::add);
+	}
+
+	@Test
+	public void applicationIsFetchedOnFirstLookup() {
+		stubApplication("APP", "app-1", "UP");
+
+		var instances = this.registry.getInstances("app");
+		this.registry.getInstances("app");
+
+		assertThat(instances).extracting(InstanceInfo::getInstanceId).containsExactly("app-1");
+		assertThat(this.registry.getVipAddresses()).containsExactly("APP");
+		verify(1, getRequestedFor(urlEqualTo("/eureka/vips/APP")));
+	}
+
+	@Test
+	public void instancesAreLookedUpByVipAddress() {
+		stubFor(get("/eureka/vips/APP").willReturn(aResponse().withHeader("Content-Type", "application/json")
+			.withBody(applications(application("APP-BLUE", instance("app-1", "UP")),
+					application("APP-GREEN", instance("app-2", "UP"))))));
+
+		var instances = this.registry.getInstances("app");
+
+		assertThat(instances).extracting(InstanceInfo::getInstanceId).containsExactly("app-1", "app-2");
+		assertThat(this.registry.getApplications().getRegisteredApplications()).extracting(Application::getName)
+			.containsExactlyInAnyOrder("APP-BLUE", "APP-GREEN");
+	}
+
+	@Test
+	public void concurrentFirstLookupsFetchApplicationOnce() {
+		stubFor(get("/eureka/vips/APP").willReturn(aResponse().withHeader("Content-Type", "application/json")
+			.withBody(applications(application("APP", instance("app-1", "UP"))))
+			.withFixedDelay(500)));
+		var executor = Executors.newFixedThreadPool(4);
+		try {
+			var lookups = new ArrayList<CompletableFuture<List<InstanceInfo>>>();
+			for (int i = 0; i < 4; i++) {
+				lookups.add(CompletableFuture.supplyAsync(() -> this.registry.getInstances("app"), executor));
+			}
+
+			assertThat(lookups).allSatisfy(lookup -> assertThat(lookup.join()).hasSize(1));
+			verify(1, getRequestedFor(urlEqualTo("/eureka/vips/APP")));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void applicationIsNotFetchedWhenNotConfiguredAndAutoDetectIsDisabled() {
+		this.properties.setAutoDetect(false);
+		stubApplication("APP", "app-1", "UP");
+
+		assertThat(this.registry.getInstances("app")).isEmpty();
+		verify(0, getRequestedFor(urlEqualTo("/eureka/vips/APP")));
+	}
+
+	@Test
+	public void configuredApplicationsAreFetchedOnRefresh() {
+		this.properties.setAutoDetect(false);
+		this.properties.setApplications(Set.of("app"));
+		stubApplication("APP", "app-1", "UP");
+
+		this.registry.refresh();
+
+		assertThat(this.registry.getVipAddresses()).containsExactly("APP");
+		verify(1, getRequestedFor(urlEqualTo("/eureka/vips/APP")));
+	}
+
+	@Test
+	public void unchangedApplicationIsKeptOnRefresh() {
+		stubApplication("APP", "app-1", "UP");
+		var instances = this.registry.getInstances("app");
+
+		this.registry.refresh();
+
+		assertThat(this.registry.getInstances("app").get(0)).isSameAs(instances.get(0));
+	}
+
+	@Test
+	public void changedApplicationIsReplacedOnRefresh() {
+		stubApplication("APP", "app-1", "UP");
+		this.registry.getInstances("app");
+
+		stubApplication("APP", "app-1", "DOWN");
+		this.registry.refresh();
+
+		assertThat(this.registry.getInstances("app")).extracting(InstanceInfo::getStatus)
+			.containsExactly(InstanceStatus.DOWN);
+	}
+
+	@Test
+	public void applicationIsKeptWhenRefreshFails() {
+		stubApplication("APP", "app-1", "UP");
+		this.registry.getInstances("app");
+
+		stubFor(get("/eureka/vips/APP").willReturn(serverError()));
+		this.registry.refresh();
+
+		assertThat(this.registry.getInstances("app")).hasSize(1);
+	}
+
+	@Test
+	public void unknownApplicationHasNoInstances() {
+		stubFor(get("/eureka/vips/UNKNOWN").willReturn(notFound()));
+
+		assertThat(this.registry.getInstances("unknown")).isEmpty();
+		assertThat(this.registry.getVipAddresses()).containsExactly("UNKNOWN");
+	}
+
+	@Test
+	public void unknownApplicationIsDroppedOnRefresh() {
+		stubFor(get("/eureka/vips/UNKNOWN").willReturn(notFound()));
+		this.registry.getInstances("unknown");
+
+		this.registry.refresh();
+
+		assertThat(this.registry.getVipAddresses()).isEmpty();
+		verify(1, getRequestedFor(urlEqualTo("/eureka/vips/UNKNOWN")));
+	}
+
+	@Test
+	public void idleApplicationIsDroppedOnRefresh() {
+		this.properties.setIdleTimeout(Duration.ZERO);
+		this.properties.setApplications(Set.of("configured"));
+		stubApplication("APP", "app-1", "UP");
+		stubApplication("CONFIGURED", "configured-1", "UP");
+		this.registry.getInstances("app");
+		this.registry.getInstances("configured");
+
+		this.registry.refresh();
+
+		assertThat(this.registry.getVipAddresses()).containsExactly("CONFIGURED");
+		verify(1, getRequestedFor(urlEqualTo("/eureka/vips/APP")));
+	}
+
+	@Test
+	public void heartbeatIsPublishedOnRefreshWithTheTrackedApplications() {
+		stubApplication("APP", "app-1", "UP");
+		stubFor(get("/eureka/vips/UNKNOWN").willReturn(notFound()));
+		this.registry.getInstances("app");
+		this.registry.getInstances("unknown");
+
+		this.registry.refresh();
+
+		assertThat(this.events).last().isInstanceOfSatisfying(HeartbeatEvent.class, event -> {
+			var applications = FetchedRegistry.applications(event,
+					new StaticListableBeanFactory().getBeanProvider(EurekaClient.class));
+			assertThat(applications.getRegisteredApplications()).extracting(Application::getName)
+				.containsExactly("APP");
+		});
+	}
+
+	@Test
+	public void discoveryClientReturnsOnlyUpInstances() {
+		stubFor(get("/eureka/vips/APP").willReturn(aResponse().withHeader("Content-Type", "application/json")
+			.withBody(applications(application("APP", instance("app-1", "UP") + "," + instance("app-2", "DOWN"))))));
+		var discoveryClient = new SelectiveEurekaDiscoveryClient(this.registry, this.clientConfig);
+
+		assertThat(discoveryClient.getInstances("app")).extracting(ServiceInstance::getInstanceId)
+			.containsExactly("app-1");
+		assertThat(discoveryClient.getServices()).containsExactly("app");
+	}
+
+	private static void stubApplication(String appName, String instanceId, String status) {
+		stubFor(get("/eureka/vips/" + appName).willReturn(aResponse().withHeader("Content-Type", "application/json")
+			.withBody(applications(application(appName, instance(instanceId, status))))));
+	}
+
+	private static String applications(String... applications) {
+		return """
+				{"applications": {"versions__delta": "1", "apps__hashcode": "UP_1_",
+				"application": [%s]}}""".formatted(String.join(",", applications));
+	}
+
+	private static String application(String appName, String instances) {
+		return """
+				{"name": "%s", "instance": [%s]}""".formatted(appName, instances);
+	}
+
+	private static String instance(String instanceId, String status) {
+		return """
+				{"instanceId": "%1$s", "hostName": "%1$s.example.com", "app": "APP", "ipAddr": "10.0.0.1",
+				"status": "%2$s", "port": {"$": 8080, "@enabled": "true"},
+				"securePort": {"$": 443, "@enabled": "false"},
+				"dataCenterInfo": {"@class": "com.netflix.appinfo.InstanceInfo$DefaultDataCenterInfo", "name": "MyOwn"}}
+				""".formatted(instanceId, status);
+	}
+
+}
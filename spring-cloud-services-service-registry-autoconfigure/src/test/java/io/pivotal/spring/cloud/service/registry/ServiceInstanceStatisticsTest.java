@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultRequestContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ServiceInstanceStatisticsTest {
+
+	private final ServiceInstanceStatistics statistics = new ServiceInstanceStatistics();
+
+	@Test
+	public void inFlightRequestsAreTracked() {
+		var instance = instance("app-1", "zone");
+		var first = startRequest(this.statistics, instance, 0);
+		startRequest(this.statistics, instance, 0);
+
+		assertThat(this.statistics.getInFlightRequests(instance)).isEqualTo(2);
+
+		completeRequest(this.statistics, first, CompletionContext.Status.SUCCESS);
+
+		assertThat(this.statistics.getInFlightRequests(instance)).isEqualTo(1);
+	}
+
+	@Test
+	public void averageLatencyIsTracked() {
+		var instance = instance("app-1", "zone");
+
+		assertThat(this.statistics.getAverageLatency(instance)).isNegative();
+
+		recordRequest(this.statistics, instance, 100);
+
+		assertThat(this.statistics.getAverageLatency(instance)).isBetween(100d, 150d);
+	}
+
+	@Test
+	public void instanceIsIdentifiedByMetadataAcrossAddresses() {
+		var routed = new DefaultServiceInstance("route", "app", "app.example.com", 443, true,
+				Map.of("cfAppGuid", "guid", "cfInstanceIndex", "1"));
+		var direct = new DefaultServiceInstance("direct", "app", "10.0.0.1", 8080, false,
+				Map.of("cfAppGuid", "guid", "cfInstanceIndex", "1"));
+
+		startRequest(this.statistics, routed, 0);
+
+		assertThat(ServiceInstanceStatistics.instanceKey(routed)).isEqualTo("guid:1");
+		assertThat(this.statistics.getInFlightRequests(direct)).isEqualTo(1);
+	}
+
+	static ServiceInstance instance(String instanceId, String zone) {
+		return new DefaultServiceInstance(instanceId, "app", instanceId + ".example.com", 443, true,
+				Map.of("instanceId", instanceId, "zone", zone));
+	}
+
+	static void recordRequest(ServiceInstanceStatistics statistics, ServiceInstance instance, long latency) {
+		completeRequest(statistics, startRequest(statistics, instance, latency), CompletionContext.Status.SUCCESS);
+	}
+
+	static CompletionContext<Object, ServiceInstance, Object> startRequest(ServiceInstanceStatistics statistics,
+			ServiceInstance instance, long latency) {
+		var context = new DefaultRequestContext();
+		context.setRequestStartTime(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(latency));
+		Request<Object> request = new DefaultRequest<>(context);
+		Response<ServiceInstance> response = new DefaultResponse(instance);
+		statistics.onStart(request);
+		statistics.onStartRequest(request, response);
+		return new CompletionContext<>(CompletionContext.Status.SUCCESS, request, response);
+	}
+
+	static void completeRequest(ServiceInstanceStatistics statistics,
+			CompletionContext<Object, ServiceInstance, Object> started, CompletionContext.Status status) {
+		statistics.onComplete(new CompletionContext<>(status, started.getLoadBalancerRequest(),
+				started.getLoadBalancerResponse()));
+	}
+
+}
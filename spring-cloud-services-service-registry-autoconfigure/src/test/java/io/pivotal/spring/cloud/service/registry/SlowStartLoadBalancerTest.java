@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pivotal.spring.cloud.service.registry;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class SlowStartLoadBalancerTest {
+
+	private static final Duration WINDOW = Duration.ofMinutes(2);
+
+	private static final long NOW = 1_000_000_000L;
+
+	@Test
+	public void weightRampsUpLinearlyOverWindow() {
+		assertThat(SlowStartLoadBalancer.warmUpWeight(startedAt(NOW), WINDOW, 0.1, NOW)).isCloseTo(0.1, within(1e-9));
+		assertThat(SlowStartLoadBalancer.warmUpWeight(startedAt(NOW - 60_000), WINDOW, 0.1, NOW)).isCloseTo(0.55,
+				within(1e-9));
+		assertThat(SlowStartLoadBalancer.warmUpWeight(startedAt(NOW - 120_000), WINDOW, 0.1, NOW)).isEqualTo(1);
+	}
+
+	@Test
+	public void instanceWithoutStartTimeHasFullWeight() {
+		var instance = new DefaultServiceInstance("app-1", "app", "app.example.com", 443, true);
+
+		assertThat(SlowStartLoadBalancer.warmUpWeight(instance, WINDOW, 0.1, NOW)).isEqualTo(1);
+	}
+
+	@Test
+	public void newInstanceGetsLessTraffic() {
+		var warm = startedAt(System.currentTimeMillis() - WINDOW.toMillis());
+		var cold = startedAt(System.currentTimeMillis());
+		var beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("supplier", ServiceInstanceListSuppliers.from("app", warm, cold));
+		var loadBalancer = new SlowStartLoadBalancer(beanFactory.getBeanProvider(ServiceInstanceListSupplier.class),
+				"app", WINDOW, 0.1);
+
+		var coldChoices = 0;
+		for (int i = 0; i < 1000; i++) {
+			if (loadBalancer.choose(new DefaultRequest<>()).block().getServer() == cold) {
+				coldChoices++;
+			}
+		}
+
+		assertThat(coldChoices).isBetween(20, 250);
+	}
+
+	@Test
+	public void instanceIsChosenWhenAllInstancesHaveZeroWeight() {
+		// Start times in the future, from clock skew, give a zero weight
+		var first = startedAt(System.currentTimeMillis() + 60_000);
+		var second = startedAt(System.currentTimeMillis() + 120_000);
+		var beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("supplier", ServiceInstanceListSuppliers.from("app", first, second));
+		var loadBalancer = new SlowStartLoadBalancer(beanFactory.getBeanProvider(ServiceInstanceListSupplier.class),
+				"app", WINDOW, 0);
+
+		assertThat(loadBalancer.choose(new DefaultRequest<>()).block().hasServer()).isTrue();
+	}
+
+	private static ServiceInstance startedAt(long startTime) {
+		return new DefaultServiceInstance("app-" + startTime, "app", "app.example.com", 443, true,
+				Map.of("startTime", String.valueOf(startTime)));
+	}
+
+}
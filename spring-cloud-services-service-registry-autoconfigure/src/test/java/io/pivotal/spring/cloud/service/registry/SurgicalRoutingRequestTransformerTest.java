@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2024 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,6 +32,8 @@ import static io.pivotal.spring.cloud.service.registry.SurgicalRoutingRequestTra
 import static io.pivotal.spring.cloud.service.registry.SurgicalRoutingRequestTransformer.CF_INSTANCE_INDEX;
 import static io.pivotal.spring.cloud.service.registry.SurgicalRoutingRequestTransformer.SURGICAL_ROUTING_HEADER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,6 +67,28 @@ public class SurgicalRoutingRequestTransformerTest {
 			.isEqualTo("::guid::" + ":" + "::index::");
 	}
 
+	@Test
+	public void headersAreBuiltOnce() {
+		var metadata = Map.of(CF_APP_GUID, "::guid::", CF_INSTANCE_INDEX, "::index::");
+		when(this.instance.getMetadata()).thenReturn(metadata);
+
+		var transformedRequest = this.transformer.transformRequest(this.request, this.instance);
+
+		assertThat(transformedRequest.getHeaders()).isSameAs(transformedRequest.getHeaders());
+		verify(this.request, times(1)).getHeaders();
+	}
+
+	@Test
+	public void headerValueFollowsMetadataChanges() {
+		when(this.instance.getMetadata()).thenReturn(Map.of(CF_APP_GUID, "::guid::", CF_INSTANCE_INDEX, "0"),
+				Map.of(CF_APP_GUID, "::guid::", CF_INSTANCE_INDEX, "1"));
+
+		this.transformer.transformRequest(this.request, this.instance).getHeaders();
+		var transformedRequest = this.transformer.transformRequest(this.request, this.instance);
+
+		assertThat(transformedRequest.getHeaders().getFirst(SURGICAL_ROUTING_HEADER)).isEqualTo("::guid:::1");
+	}
+
 	@Test
 	public void headerIsNotSetWhenAppGuidNotPresentInMetadata() {
 		var metadata = Map.of(CF_INSTANCE_INDEX, "::index::");